@@ -0,0 +1,170 @@
+package com.study.springbootdeveloper.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Gemini API 호출용 HTTP 클라이언트 설정
+ * JDK HttpClient 기반: 커넥션 재사용(keep-alive), HTTP/2 협상, 연결/응답 타임아웃, TLS 세션 재사용
+ */
+@Slf4j
+@Configuration
+public class GeminiHttpClientConfig {
+
+    @Bean
+    public RestTemplate geminiRestTemplate(
+            @Value("${gemini.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${gemini.http.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${gemini.http.max-connections:16}") int maxConnections,
+            @Value("${gemini.http.tls-session-timeout-seconds:3600}") int tlsSessionTimeoutSeconds
+    ) {
+        RestTemplate restTemplate = new RestTemplate(createRequestFactory(
+                Duration.ofMillis(connectTimeoutMs),
+                Duration.ofMillis(readTimeoutMs),
+                tlsSessionTimeoutSeconds
+        ));
+        restTemplate.getInterceptors().add(new ConnectionLimitInterceptor(maxConnections, Duration.ofMillis(connectTimeoutMs)));
+
+        log.info("Gemini HTTP client: connectTimeout={}ms, readTimeout={}ms, maxConnections={}",
+                connectTimeoutMs, readTimeoutMs, maxConnections);
+        return restTemplate;
+    }
+
+    /**
+     * 풀링 HTTP 요청 팩토리 생성 (벤치마크에서도 재사용)
+     */
+    public static ClientHttpRequestFactory createRequestFactory(Duration connectTimeout, Duration readTimeout,
+                                                                int tlsSessionTimeoutSeconds) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)         // ALPN으로 HTTP/2 협상, 미지원 서버는 HTTP/1.1 keep-alive
+                .connectTimeout(connectTimeout)
+                .sslContext(createSslContext(tlsSessionTimeoutSeconds))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    /**
+     * 클라이언트 전용 SSLContext: 같은 컨텍스트를 공유해야 재연결 시 TLS 세션이 재사용됨
+     */
+    private static SSLContext createSslContext(int sessionTimeoutSeconds) {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, null, null);
+            sslContext.getClientSessionContext().setSessionTimeout(sessionTimeoutSeconds);
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Gemini HTTP 클라이언트 SSLContext 생성 실패", e);
+        }
+    }
+
+    /**
+     * 동시 요청 수 제한 → HTTP/1.1 폴백 시 열리는 커넥션 수의 상한
+     * 허용량이 없으면 연결 타임아웃만큼만 대기 후 실패
+     * 응답 본문을 다 읽을 때까지 커넥션을 쓰므로 허용량은 응답이 close될 때 반환
+     */
+    static class ConnectionLimitInterceptor implements ClientHttpRequestInterceptor {
+
+        private final Semaphore permits;
+        private final long acquireTimeoutMillis;
+
+        ConnectionLimitInterceptor(int maxConnections, Duration acquireTimeout) {
+            this.permits = new Semaphore(maxConnections, true);
+            this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            try {
+                if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new ResourceAccessException("Gemini HTTP connection limit reached");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for Gemini HTTP connection");
+            }
+
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            return new PermitReleasingResponse(response, permits);
+        }
+    }
+
+    /**
+     * close 시 한 번만 허용량을 반환하는 응답 래퍼 (RestTemplate은 응답 처리 후 항상 close 호출)
+     */
+    static class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        PermitReleasingResponse(ClientHttpResponse delegate, Semaphore permits) {
+            this.delegate = delegate;
+            this.permits = permits;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
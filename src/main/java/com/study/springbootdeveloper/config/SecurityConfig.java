@@ -7,6 +7,7 @@ import com.study.springbootdeveloper.service.CustomLoginFilter;
 import com.study.springbootdeveloper.service.CustomLogoutFilter;
 import com.study.springbootdeveloper.service.JwtFilter;
 import com.study.springbootdeveloper.service.JwtService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -87,6 +88,9 @@ public class SecurityConfig {
                         LogoutFilter.class);
 
         http.authorizeHttpRequests(auth -> auth
+                // SSE 등 비동기 응답 완료 시의 재디스패치 (최초 요청에서 이미 인가됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Swagger (개발용)
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
@@ -105,12 +109,16 @@ public class SecurityConfig {
 
                 // ========== 문제 관련 API ==========
                 .requestMatchers(HttpMethod.GET, "/api/problems/**").permitAll()
-                .requestMatchers(HttpMethod.POST, "/api/problems/submit").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/problems/submit", "/api/problems/submit/async", "/api/problems/submit/stream").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/problems/solved/**").hasAnyRole("USER", "ADMIN")
 
                 // ========== 세션 관리 API ==========
                 .requestMatchers("/api/sessions/**").hasAnyRole("USER","ADMIN")
 
+                // ========== 리더보드 API ==========
+                .requestMatchers(HttpMethod.GET, "/api/leaderboard", "/api/leaderboard/graph", "/api/leaderboard/stream").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/leaderboard/me").hasAnyRole("USER", "ADMIN")
+
                 // ========== 통계 API (USER도 접근 가능하도록 변경) ==========
                 .requestMatchers("/api/stats/**").hasAnyRole("USER", "ADMIN")
 
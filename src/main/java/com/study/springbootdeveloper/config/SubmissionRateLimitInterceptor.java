@@ -0,0 +1,92 @@
+package com.study.springbootdeveloper.config;
+
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.service.SubmissionRateLimiter;
+import com.study.springbootdeveloper.service.SubmissionRateLimiter.KeyType;
+import com.study.springbootdeveloper.type.ErrorCode;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 답안 제출(채점) API 앞단 속도 제한
+ * 로그인 userId 또는 비로그인 guestId → IP 순서로 확인하고, 초과 시 Retry-After 헤더와 함께 429 응답
+ * 거절된 요청은 어느 한도도 소진하지 않음 (사용자 한도 초과 요청이 같은 IP의 다른 사용자 한도를 깎지 않도록)
+ * 사용자 한도는 JWT로 인증된 userId에만 적용 (클라이언트가 보낸 userId 파라미터로 다른 사용자 한도를 소진시키지 못하도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String GUEST_ID_COOKIE_NAME = "guest_id";
+
+    private final SubmissionRateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        KeyType identityType = null;
+        String identity = resolveUserId(request);
+        if (identity != null) {
+            identityType = KeyType.USER;
+        } else {
+            identity = resolveGuestId(request);
+            if (identity != null) {
+                identityType = KeyType.GUEST;
+            }
+        }
+        if (identityType != null) {
+            check(request, response, identityType, identity);
+        }
+
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 remoteAddr가 실제 클라이언트 IP가 됨
+        try {
+            check(request, response, KeyType.IP, request.getRemoteAddr());
+        } catch (RestApiException e) {
+            if (identityType != null) {
+                rateLimiter.release(identityType, identity);
+            }
+            throw e;
+        }
+        return true;
+    }
+
+    private void check(HttpServletRequest request, HttpServletResponse response, KeyType type, String key) {
+        long retryAfterMs = rateLimiter.tryAcquire(type, key);
+        if (retryAfterMs == 0) {
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (retryAfterMs + 999) / 1000);
+        log.warn("Submission rate limited: type={}, key={}, uri={}, retryAfter={}s",
+                type, key, request.getRequestURI(), retryAfterSeconds);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        throw new RestApiException(ErrorCode.SUBMISSION_RATE_LIMITED);
+    }
+
+    /**
+     * JWT 인증 시 JwtFilter가 넣어둔 userId (미인증 요청은 게스트로 취급)
+     */
+    private static String resolveUserId(HttpServletRequest request) {
+        Object authenticated = request.getAttribute("userId");
+        return authenticated != null ? authenticated.toString() : null;
+    }
+
+    private static String resolveGuestId(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (GUEST_ID_COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -1,12 +1,30 @@
 package com.study.springbootdeveloper.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final SubmissionRateLimitInterceptor submissionRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 채점(Gemini 호출)을 일으키는 제출 API에만 속도 제한 적용
+        registry.addInterceptor(submissionRateLimitInterceptor)
+                .addPathPatterns(
+                        "/api/problems/submit",
+                        "/api/problems/submit/async",
+                        "/api/problems/submit/stream",
+                        "/api/sessions/*/submit",
+                        "/api/sessions/*/submit/stream"
+                );
+    }
+
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
         // 메인 페이지
@@ -4,12 +4,23 @@ import com.study.springbootdeveloper.domain.Problem;
 import com.study.springbootdeveloper.domain.User;
 import com.study.springbootdeveloper.dto.request.CreateProblemRequest;
 import com.study.springbootdeveloper.dto.request.UpdateProblemRequest;
+import com.study.springbootdeveloper.dto.response.ActivityBucketResponse;
 import com.study.springbootdeveloper.dto.response.AdminResponseDto;
 import com.study.springbootdeveloper.dto.response.ProblemResponse;
 import com.study.springbootdeveloper.dto.response.UserResponse;
+import com.study.springbootdeveloper.repository.ProblemStatsRepository;
 import com.study.springbootdeveloper.repository.UserRepository;
+import com.study.springbootdeveloper.service.ActivityRollupService;
+import com.study.springbootdeveloper.service.DashboardSnapshotService;
+import com.study.springbootdeveloper.service.ProblemAnalyticsService;
 import com.study.springbootdeveloper.service.ProblemService;
 import com.study.springbootdeveloper.service.UserService;
+import com.study.springbootdeveloper.service.UserStatsCache;
+import com.study.springbootdeveloper.service.UserStatsCounterService;
+import com.study.springbootdeveloper.type.ActivityGranularity;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.UserRole;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -19,10 +30,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -35,8 +48,13 @@ import java.util.stream.Collectors;
 public class AdminController {
 
     private final ProblemService problemService;
+    private final ProblemAnalyticsService problemAnalyticsService;
     private final UserService userService;
     private final UserRepository userRepository;
+    private final UserStatsCounterService userStatsCounterService;
+    private final UserStatsCache userStatsCache;
+    private final ActivityRollupService activityRollupService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
     // ==================== 문제 관리 ====================
 
@@ -138,6 +156,101 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    // ==================== 문제 분석 ====================
+
+    /**
+     * 문제별 분석 (풀이 수, 정답률, 평균 점수, 객관식 선택지 분포)
+     */
+    @Operation(summary = "문제 분석", description = "문제의 풀이 수, 정답률, 평균 점수, 객관식 선택지별 선택 분포를 조회합니다. (관리자 전용)")
+    @GetMapping("/problems/{problemId}/analytics")
+    public ResponseEntity<AdminResponseDto.ProblemAnalyticsResponse> getProblemAnalytics(@PathVariable Long problemId) {
+        ProblemAnalyticsService.ProblemAnalytics analytics = problemAnalyticsService.getAnalytics(problemId);
+        ProblemAnalyticsService.Totals totals = analytics.totals();
+
+        long totalChosen = analytics.choices().stream().mapToLong(ProblemAnalyticsService.ChoiceCount::count).sum();
+        List<AdminResponseDto.ChoiceDistribution> choices = analytics.choices().stream()
+                .map(choice -> AdminResponseDto.ChoiceDistribution.builder()
+                        .choice(choice.choice())
+                        .count(choice.count())
+                        .ratio(totalChosen == 0 ? 0.0 : Math.round(choice.count() * 10000.0 / totalChosen) / 100.0)
+                        .answer(choice.answer())
+                        .build())
+                .collect(Collectors.toList());
+
+        AdminResponseDto.ProblemAnalyticsResponse response = AdminResponseDto.ProblemAnalyticsResponse.builder()
+                .problemId(analytics.problemId())
+                .category(analytics.category().name())
+                .difficulty(analytics.difficulty().name())
+                .problemType(analytics.problemType().name())
+                .question(analytics.question())
+                .attempts(totals.attempts())
+                .correctCount(totals.correct())
+                .accuracy(Math.round(totals.accuracy() * 100.0) / 100.0)
+                .averageScore(Math.round(totals.averageScore() * 100.0) / 100.0)
+                .choices(choices)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 어려운/쉬운 문제 순위
+     */
+    @Operation(summary = "문제 난이도 순위", description = "정답률 기준으로 어려운(order=HARDEST) 또는 쉬운(order=EASIEST) 문제 목록을 조회합니다. (관리자 전용)")
+    @GetMapping("/problems/analytics")
+    public ResponseEntity<List<AdminResponseDto.ProblemRankingResponse>> getProblemRanking(
+            @RequestParam(defaultValue = "HARDEST") String order,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) DifficultyType difficulty,
+            @RequestParam(defaultValue = "10") long minAttempts,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        boolean hardest = !"EASIEST".equalsIgnoreCase(order);
+        List<AdminResponseDto.ProblemRankingResponse> response = problemAnalyticsService
+                .getRanking(hardest, category, difficulty, minAttempts, limit).stream()
+                .map(this::toRankingResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 문제별 분석 집계 전체 재계산 (백필/보정)
+     */
+    @Operation(summary = "문제 분석 재계산", description = "풀이 이력에서 문제별 분석 집계를 다시 계산합니다. 백그라운드에서 실행됩니다. (관리자 전용)")
+    @PostMapping("/problems/analytics/rebuild")
+    public ResponseEntity<AdminResponseDto.ProblemAnalyticsRebuildResponse> rebuildProblemAnalytics() {
+        boolean scheduled = problemAnalyticsService.requestRebuild();
+        ProblemAnalyticsService.RebuildStats stats = problemAnalyticsService.rebuildStats();
+        log.info("Admin requested problem analytics rebuild: scheduled={}", scheduled);
+
+        AdminResponseDto.ProblemAnalyticsRebuildResponse response = AdminResponseDto.ProblemAnalyticsRebuildResponse.builder()
+                .scheduled(scheduled)
+                .running(stats.running())
+                .lastRebuildProblems(stats.lastRebuildProblems())
+                .lastRebuildMs(stats.lastRebuildMs())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    private AdminResponseDto.ProblemRankingResponse toRankingResponse(ProblemStatsRepository.ProblemAnalyticsRow row) {
+        ProblemAnalyticsService.Totals totals = new ProblemAnalyticsService.Totals(
+                row.getAttempts(), row.getCorrectCount(), row.getScoredCount(), row.getScoreSum());
+
+        return AdminResponseDto.ProblemRankingResponse.builder()
+                .problemId(row.getProblemId())
+                .category(row.getCategory().name())
+                .difficulty(row.getDifficulty().name())
+                .problemType(row.getProblemType().name())
+                .question(row.getQuestion())
+                .attempts(totals.attempts())
+                .correctCount(totals.correct())
+                .accuracy(Math.round(totals.accuracy() * 100.0) / 100.0)
+                .averageScore(Math.round(totals.averageScore() * 100.0) / 100.0)
+                .build();
+    }
+
     // ==================== 사용자 관리 ====================
 
     /**
@@ -201,14 +314,12 @@ public class AdminController {
     public ResponseEntity<AdminResponseDto.UserStatisticsResponse> getUserStatistics() {
         log.info("Admin fetching user statistics");
 
-        long totalUsers = userRepository.count();
-        long adminCount = userRepository.countByRole(com.study.springbootdeveloper.type.UserRole.ROLE_ADMIN);
-        long userCount = userRepository.countByRole(com.study.springbootdeveloper.type.UserRole.ROLE_USER);
+        DashboardSnapshotService.Snapshot snapshot = dashboardSnapshotService.snapshot();
 
         AdminResponseDto.UserStatisticsResponse response = AdminResponseDto.UserStatisticsResponse.builder()
-                .totalUsers(totalUsers)
-                .adminCount(adminCount)
-                .userCount(userCount)
+                .totalUsers(snapshot.totalUsers())
+                .adminCount(snapshot.userCount(UserRole.ROLE_ADMIN))
+                .userCount(snapshot.userCount(UserRole.ROLE_USER))
                 .build();
 
         return ResponseEntity.ok(response);
@@ -224,19 +335,122 @@ public class AdminController {
     public ResponseEntity<AdminResponseDto.DashboardStatisticsResponse> getDashboardStatistics() {
         log.info("Admin fetching dashboard statistics");
 
-        // 사용자 통계
-        long totalUsers = userRepository.count();
-
-        // 문제 통계
-        Map<String, Object> problemStats = problemService.getProblemStatistics();
+        // 사용자/문제 통계 모두 메모리 스냅샷에서 읽음
+        DashboardSnapshotService.Snapshot snapshot = dashboardSnapshotService.snapshot();
 
         AdminResponseDto.DashboardStatisticsResponse response = AdminResponseDto.DashboardStatisticsResponse.builder()
-                .totalUsers(totalUsers)
-                .totalProblems((Long) problemStats.get("totalCount"))
-                .problemsByCategory((Map<String, Long>) problemStats.get("byCategory"))
-                .problemsByDifficulty((Map<String, Long>) problemStats.get("byDifficulty"))
+                .totalUsers(snapshot.totalUsers())
+                .totalProblems(snapshot.totalProblems())
+                .problemsByCategory(snapshot.problemsByCategory())
+                .problemsByDifficulty(snapshot.problemsByDifficulty())
+                .reconciledAt(snapshot.reconciledAt())
                 .build();
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 대시보드 스냅샷 상태
+     */
+    @Operation(summary = "대시보드 스냅샷 상태", description = "대시보드 집계 스냅샷의 조회/반영/보정 현황을 조회합니다. (관리자 전용)")
+    @GetMapping("/dashboard/snapshot")
+    public ResponseEntity<AdminResponseDto.DashboardSnapshotResponse> getDashboardSnapshot() {
+        return ResponseEntity.ok(toSnapshotResponse(dashboardSnapshotService.stats()));
+    }
+
+    /**
+     * 대시보드 스냅샷 즉시 보정 (DB 집계로 다시 맞춤)
+     */
+    @Operation(summary = "대시보드 스냅샷 보정", description = "DB 집계로 대시보드 스냅샷을 즉시 다시 맞춥니다. (관리자 전용)")
+    @PostMapping("/dashboard/snapshot/reconcile")
+    public ResponseEntity<AdminResponseDto.DashboardSnapshotResponse> reconcileDashboardSnapshot() {
+        log.info("Admin requested dashboard snapshot reconcile");
+        dashboardSnapshotService.reconcile();
+
+        return ResponseEntity.ok(toSnapshotResponse(dashboardSnapshotService.stats()));
+    }
+
+    /**
+     * 사이트 전체 기간별 활동
+     */
+    @Operation(summary = "전체 기간별 활동", description = "from~to 기간의 사이트 전체 일/주/월별 제출 수, 정답률, 평균 점수를 조회합니다. (관리자 전용)")
+    @GetMapping("/activity")
+    public ResponseEntity<List<ActivityBucketResponse>> getGlobalActivity(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") ActivityGranularity granularity) {
+
+        List<ActivityBucketResponse> activity = activityRollupService.getGlobalActivity(from, to, granularity).stream()
+                .map(ActivityBucketResponse::from)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(activity);
+    }
+
+    // ==================== 사용자 통계 카운터 ====================
+
+    /**
+     * 사용자 통계 카운터 상태
+     */
+    @Operation(summary = "통계 카운터 상태", description = "사용자 통계 카운터 증가/재계산 현황을 조회합니다. (관리자 전용)")
+    @GetMapping("/statistics/counters")
+    public ResponseEntity<AdminResponseDto.UserStatsCounterResponse> getStatsCounters() {
+        return ResponseEntity.ok(toCounterResponse(userStatsCounterService.stats()));
+    }
+
+    /**
+     * 사용자 통계 카운터 전체 재계산 (백필/보정)
+     */
+    @Operation(summary = "통계 카운터 재계산", description = "풀이 이력에서 사용자 통계 카운터를 다시 계산합니다. 백그라운드에서 실행됩니다. (관리자 전용)")
+    @PostMapping("/statistics/counters/rebuild")
+    public ResponseEntity<AdminResponseDto.UserStatsCounterResponse> rebuildStatsCounters() {
+        boolean scheduled = userStatsCounterService.requestRebuild();
+        log.info("Admin requested user stats rebuild: scheduled={}", scheduled);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(toCounterResponse(userStatsCounterService.stats()));
+    }
+
+    /**
+     * 사용자 통계 캐시 상태
+     */
+    @Operation(summary = "통계 캐시 상태", description = "사용자 통계 캐시의 적중률과 집계 실행 횟수를 조회합니다. (관리자 전용)")
+    @GetMapping("/statistics/cache")
+    public ResponseEntity<AdminResponseDto.UserStatsCacheResponse> getStatsCache() {
+        UserStatsCache.Stats stats = userStatsCache.stats();
+
+        AdminResponseDto.UserStatsCacheResponse response = AdminResponseDto.UserStatsCacheResponse.builder()
+                .size(stats.size())
+                .maxSize(stats.maxSize())
+                .hits(stats.hits())
+                .misses(stats.misses())
+                .hitRatio(Math.round(stats.hitRatio() * 10000.0) / 100.0)
+                .loads(stats.loads())
+                .collapsedLoads(stats.collapsed())
+                .evictions(stats.evictions())
+                .invalidations(stats.invalidations())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    private AdminResponseDto.DashboardSnapshotResponse toSnapshotResponse(DashboardSnapshotService.Stats stats) {
+        return AdminResponseDto.DashboardSnapshotResponse.builder()
+                .reads(stats.reads())
+                .writes(stats.writes())
+                .reconciles(stats.reconciles())
+                .corrections(stats.corrections())
+                .reconciledAt(stats.reconciledAt())
+                .build();
+    }
+
+    private AdminResponseDto.UserStatsCounterResponse toCounterResponse(UserStatsCounterService.Stats stats) {
+        return AdminResponseDto.UserStatsCounterResponse.builder()
+                .increments(stats.increments())
+                .rebuilds(stats.rebuilds())
+                .rebuildRunning(stats.rebuildRunning())
+                .lastRebuildUsers(stats.lastRebuildUsers())
+                .lastRebuildMs(stats.lastRebuildMs())
+                .build();
+    }
 }
\ No newline at end of file
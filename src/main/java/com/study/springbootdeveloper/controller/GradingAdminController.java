@@ -0,0 +1,246 @@
+package com.study.springbootdeveloper.controller;
+
+import com.study.springbootdeveloper.dto.response.AdminResponseDto;
+import com.study.springbootdeveloper.service.ChoiceExplanationService;
+import com.study.springbootdeveloper.service.GeminiApiService;
+import com.study.springbootdeveloper.service.GeminiBulkhead;
+import com.study.springbootdeveloper.service.GeminiCircuitBreaker;
+import com.study.springbootdeveloper.service.GeminiRequestHedger;
+import com.study.springbootdeveloper.service.GeminiResponseParser;
+import com.study.springbootdeveloper.service.GradingResultCache;
+import com.study.springbootdeveloper.service.GradingScheduler;
+import com.study.springbootdeveloper.service.MicroBatcher;
+import com.study.springbootdeveloper.service.SingleFlight;
+import com.study.springbootdeveloper.service.SubmissionRateLimiter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Admin Grading", description = "채점 파이프라인 모니터링 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/grading")
+@RequiredArgsConstructor
+public class GradingAdminController {
+
+    private final GradingResultCache gradingResultCache;
+    private final GeminiApiService geminiApiService;
+    private final GeminiCircuitBreaker geminiCircuitBreaker;
+    private final GeminiBulkhead geminiBulkhead;
+    private final GeminiRequestHedger geminiRequestHedger;
+    private final ChoiceExplanationService choiceExplanationService;
+    private final SubmissionRateLimiter submissionRateLimiter;
+    private final GradingScheduler gradingScheduler;
+
+    /**
+     * 채점 결과 캐시 통계
+     */
+    @Operation(summary = "채점 캐시 통계", description = "채점 결과 캐시의 적중/미스 횟수를 조회합니다. (관리자 전용)")
+    @GetMapping("/cache")
+    public ResponseEntity<AdminResponseDto.GradingCacheStatsResponse> getCacheStats() {
+        GradingResultCache.Stats stats = gradingResultCache.stats();
+
+        AdminResponseDto.GradingCacheStatsResponse response = AdminResponseDto.GradingCacheStatsResponse.builder()
+                .size(stats.size())
+                .maxSize(stats.maxSize())
+                .hits(stats.hits())
+                .misses(stats.misses())
+                .hitRatio(Math.round(stats.hitRatio() * 10000.0) / 100.0)
+                .evictions(stats.evictions())
+                .invalidations(stats.invalidations())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Gemini 배치 채점 통계
+     */
+    @Operation(summary = "배치 채점 통계", description = "Gemini 배치 채점의 전송 횟수와 배치 채움률을 조회합니다. (관리자 전용)")
+    @GetMapping("/batch")
+    public ResponseEntity<AdminResponseDto.GradingBatchStatsResponse> getBatchStats() {
+        MicroBatcher.Stats stats = geminiApiService.getBatchStats();
+
+        if (stats == null) {
+            return ResponseEntity.ok(AdminResponseDto.GradingBatchStatsResponse.builder()
+                    .enabled(false)
+                    .build());
+        }
+
+        AdminResponseDto.GradingBatchStatsResponse response = AdminResponseDto.GradingBatchStatsResponse.builder()
+                .enabled(true)
+                .windowMs(geminiApiService.getBatchWindowMs())
+                .maxBatchSize(stats.maxBatchSize())
+                .batches(stats.batches())
+                .items(stats.items())
+                .failedBatches(stats.failedBatches())
+                .queueDepth(stats.queueDepth())
+                .averageBatchSize(Math.round(stats.averageBatchSize() * 100.0) / 100.0)
+                .averageFillRatio(Math.round(stats.averageFillRatio() * 10000.0) / 100.0)
+                .sizeHistogram(stats.sizeHistogram())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Gemini 서킷 브레이커/벌크헤드 상태
+     */
+    @Operation(summary = "Gemini 호출 보호 상태", description = "서킷 브레이커 상태와 벌크헤드 거절 횟수를 조회합니다. (관리자 전용)")
+    @GetMapping("/gemini")
+    public ResponseEntity<AdminResponseDto.GeminiResilienceResponse> getGeminiResilience() {
+        GeminiCircuitBreaker.Stats breaker = geminiCircuitBreaker.stats();
+        GeminiBulkhead.Stats bulkhead = geminiBulkhead.stats();
+
+        AdminResponseDto.GeminiResilienceResponse response = AdminResponseDto.GeminiResilienceResponse.builder()
+                .circuitState(breaker.state().name())
+                .bufferedCalls(breaker.bufferedCalls())
+                .failedCalls(breaker.failedCalls())
+                .slowCalls(breaker.slowCalls())
+                .failureRate(Math.round(breaker.failureRate() * 10000.0) / 100.0)
+                .slowCallRate(Math.round(breaker.slowCallRate() * 10000.0) / 100.0)
+                .circuitRejections(breaker.notPermittedCalls())
+                .openTransitions(breaker.openTransitions())
+                .maxConcurrentCalls(bulkhead.maxConcurrentCalls())
+                .inFlightCalls(bulkhead.inFlightCalls())
+                .bulkheadRejections(bulkhead.rejectedCalls())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 채점 레인별 대기열 통계
+     */
+    @Operation(summary = "채점 레인 통계", description = "챌린지/자유/게스트 채점 레인별 대기열 크기와 대기 시간을 조회합니다. (관리자 전용)")
+    @GetMapping("/lanes")
+    public ResponseEntity<List<AdminResponseDto.GradingLaneStatsResponse>> getLaneStats() {
+        List<AdminResponseDto.GradingLaneStatsResponse> response = gradingScheduler.stats().stream()
+                .map(stats -> AdminResponseDto.GradingLaneStatsResponse.builder()
+                        .lane(stats.lane().name())
+                        .queueDepth(stats.queueDepth())
+                        .submitted(stats.submitted())
+                        .completed(stats.completed())
+                        .rejected(stats.rejected())
+                        .promoted(stats.promoted())
+                        .averageWaitMs(Math.round(stats.averageWaitMs() * 100.0) / 100.0)
+                        .maxWaitMs(stats.maxWaitMs())
+                        .build())
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Gemini 헤지 요청 통계
+     */
+    @Operation(summary = "Gemini 헤지 요청 통계", description = "응답이 늦은 Gemini 호출에 보낸 헤지 요청 비율과 헤지 요청이 먼저 응답한 횟수를 조회합니다. (관리자 전용)")
+    @GetMapping("/hedging")
+    public ResponseEntity<AdminResponseDto.GeminiHedgingStatsResponse> getHedgingStats() {
+        GeminiRequestHedger.Stats stats = geminiRequestHedger.stats();
+
+        AdminResponseDto.GeminiHedgingStatsResponse response = AdminResponseDto.GeminiHedgingStatsResponse.builder()
+                .enabled(stats.enabled())
+                .calls(stats.calls())
+                .hedges(stats.hedges())
+                .hedgeWins(stats.hedgeWins())
+                .budgetDenied(stats.budgetDenied())
+                .hedgeRate(Math.round(stats.hedgeRate() * 10000.0) / 100.0)
+                .hedgeWinRate(stats.hedges() == 0 ? 0.0 : Math.round(stats.hedgeWins() * 10000.0 / stats.hedges()) / 100.0)
+                .hedgeDelayMs(stats.hedgeDelayMs())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Gemini 채점 응답 파싱 통계
+     */
+    @Operation(summary = "Gemini 응답 파싱 통계", description = "JSON 응답 모드로 받은 채점 결과의 파싱 성공/실패 횟수를 조회합니다. (관리자 전용)")
+    @GetMapping("/responses")
+    public ResponseEntity<AdminResponseDto.GeminiResponseParseStatsResponse> getResponseParseStats() {
+        GeminiResponseParser.Stats stats = geminiApiService.getResponseParseStats();
+        long total = stats.parsed() + stats.parseFailures();
+
+        AdminResponseDto.GeminiResponseParseStatsResponse response = AdminResponseDto.GeminiResponseParseStatsResponse.builder()
+                .parsedResponses(stats.parsed())
+                .parseFailures(stats.parseFailures())
+                .parseFailureRate(total == 0 ? 0.0 : Math.round(stats.parseFailures() * 10000.0 / total) / 100.0)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 객관식 보충 설명 저장소 통계
+     */
+    @Operation(summary = "객관식 설명 저장소 통계", description = "선택지별로 미리 생성된 보충 설명의 저장 수와 적중률을 조회합니다. (관리자 전용)")
+    @GetMapping("/explanations")
+    public ResponseEntity<AdminResponseDto.ChoiceExplanationStatsResponse> getExplanationStats() {
+        ChoiceExplanationService.Stats stats = choiceExplanationService.stats();
+        long total = stats.hits() + stats.misses();
+
+        AdminResponseDto.ChoiceExplanationStatsResponse response = AdminResponseDto.ChoiceExplanationStatsResponse.builder()
+                .stored(stats.stored())
+                .hits(stats.hits())
+                .misses(stats.misses())
+                .hitRatio(total == 0 ? 0.0 : Math.round(stats.hits() * 10000.0 / total) / 100.0)
+                .generated(stats.generated())
+                .generationFailures(stats.generationFailures())
+                .pendingRefreshes(stats.pendingRefreshes())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 동시 채점 요청 합치기 통계
+     */
+    @Operation(summary = "채점 요청 합치기 통계", description = "동시에 들어온 같은 채점/설명 요청이 하나의 Gemini 호출로 합쳐진 횟수를 조회합니다. (관리자 전용)")
+    @GetMapping("/coalescing")
+    public ResponseEntity<AdminResponseDto.GradingCoalescingStatsResponse> getCoalescingStats() {
+        SingleFlight.Stats grading = geminiApiService.getGradingCoalescingStats();
+        SingleFlight.Stats explanation = geminiApiService.getExplanationCoalescingStats();
+
+        AdminResponseDto.GradingCoalescingStatsResponse response = AdminResponseDto.GradingCoalescingStatsResponse.builder()
+                .gradingExecutions(grading.executions())
+                .gradingCollapsed(grading.collapsed())
+                .gradingInFlight(grading.inFlight())
+                .explanationExecutions(explanation.executions())
+                .explanationCollapsed(explanation.collapsed())
+                .explanationInFlight(explanation.inFlight())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 제출 속도 제한 통계
+     */
+    @Operation(summary = "제출 속도 제한 통계", description = "guestId/userId/IP별 제출 한도와 허용/거절 횟수를 조회합니다. (관리자 전용)")
+    @GetMapping("/rate-limit")
+    public ResponseEntity<AdminResponseDto.SubmissionRateLimitStatsResponse> getRateLimitStats() {
+        SubmissionRateLimiter.Stats stats = submissionRateLimiter.stats();
+
+        AdminResponseDto.SubmissionRateLimitStatsResponse response = AdminResponseDto.SubmissionRateLimitStatsResponse.builder()
+                .trackedKeys(stats.trackedKeys())
+                .quotas(stats.keys().stream()
+                        .map(key -> AdminResponseDto.RateLimitKeyStats.builder()
+                                .keyType(key.type().name())
+                                .limit(key.limit())
+                                .periodSeconds(key.periodSeconds())
+                                .burst(key.burst())
+                                .allowed(key.allowed())
+                                .rejected(key.rejected())
+                                .build())
+                        .toList())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,101 @@
+package com.study.springbootdeveloper.controller;
+
+import com.study.springbootdeveloper.dto.response.LeaderboardGraphResponse;
+import com.study.springbootdeveloper.dto.response.LeaderboardResponse;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.service.LeaderboardHistoryService;
+import com.study.springbootdeveloper.service.LeaderboardService;
+import com.study.springbootdeveloper.service.LeaderboardStream;
+import com.study.springbootdeveloper.service.WindowedLeaderboardService;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.ErrorCode;
+import com.study.springbootdeveloper.type.LeaderboardPeriod;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Leaderboard", description = "리더보드 API")
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final LeaderboardService leaderboardService;
+    private final WindowedLeaderboardService windowedLeaderboardService;
+    private final LeaderboardHistoryService leaderboardHistoryService;
+    private final LeaderboardStream leaderboardStream;
+
+    /**
+     * 상위 순위 조회 (기간 내 점수 합계 순, category를 주면 해당 카테고리 문제 점수만)
+     */
+    @Operation(summary = "리더보드 조회", description = "기간(ALL, DAILY, WEEKLY)·카테고리별 점수 순위를 offset부터 limit명 조회합니다.")
+    @GetMapping
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(
+            @RequestParam(defaultValue = "ALL") LeaderboardPeriod period,
+            @RequestParam(required = false) Category category,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        int safeOffset = Math.max(0, offset);
+        int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        LeaderboardService.Page page = period == LeaderboardPeriod.ALL
+                ? leaderboardService.getPage(category, safeOffset, safeLimit)
+                : windowedLeaderboardService.getPage(period, category, safeOffset, safeLimit);
+        return ResponseEntity.ok(LeaderboardResponse.from(page, null));
+    }
+
+    /**
+     * 내 순위 조회
+     */
+    @Operation(summary = "내 순위 조회", description = "로그인한 사용자의 기간·카테고리별 현재 순위와 점수를 조회합니다.")
+    @GetMapping("/me")
+    public ResponseEntity<LeaderboardResponse.Entry> getMyRanking(
+            @RequestParam(defaultValue = "ALL") LeaderboardPeriod period,
+            @RequestParam(required = false) Category category,
+            HttpServletRequest request
+    ) {
+        Long userId = (Long) request.getAttribute("userId");
+
+        if (userId == null) {
+            throw new RestApiException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        LeaderboardService.Ranking ranking = period == LeaderboardPeriod.ALL
+                ? leaderboardService.getRanking(category, userId)
+                : windowedLeaderboardService.getRanking(period, category, userId);
+        if (ranking == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(LeaderboardResponse.Entry.from(ranking));
+    }
+
+    /**
+     * 사용자 순위 변화 그래프 (주기적 스냅샷 기준, 오래된 순)
+     */
+    @Operation(summary = "순위 그래프", description = "사용자의 기간·카테고리별 순위 이력을 스냅샷 시각 순으로 조회합니다.")
+    @GetMapping("/graph")
+    public ResponseEntity<LeaderboardGraphResponse> getRankGraph(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "ALL") LeaderboardPeriod period,
+            @RequestParam(required = false) Category category
+    ) {
+        return ResponseEntity.ok(LeaderboardGraphResponse.of(userId, leaderboardService.nickname(userId), period, category,
+                leaderboardHistoryService.getHistory(userId, period, category)));
+    }
+
+    /**
+     * 순위 변경 실시간 구독 (SSE, leaderboard 이벤트)
+     */
+    @Operation(summary = "리더보드 스트림", description = "순위가 바뀌면 상위 순위를 SSE로 전송합니다. userId를 주면 해당 사용자의 순위도 함께 전송합니다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long userId) {
+        return leaderboardStream.subscribe(userId);
+    }
+}
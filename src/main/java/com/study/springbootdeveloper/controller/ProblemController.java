@@ -5,20 +5,27 @@ import com.study.springbootdeveloper.domain.SolvedProblem;
 import com.study.springbootdeveloper.dto.request.SubmitAnswerRequest;
 import com.study.springbootdeveloper.dto.response.ProblemResponse;
 import com.study.springbootdeveloper.dto.response.SolvedProblemResponse;
+import com.study.springbootdeveloper.dto.response.SubmissionStatusResponse;
+import com.study.springbootdeveloper.service.AsyncGradingService;
 import com.study.springbootdeveloper.service.ProblemService;
 import com.study.springbootdeveloper.service.SolvingService;
+import com.study.springbootdeveloper.service.SubmissionService;
 import com.study.springbootdeveloper.type.Category;
 import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.GradingStatus;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -31,9 +38,12 @@ public class ProblemController {
 
     private final ProblemService problemService;
     private final SolvingService solvingService;
+    private final SubmissionService submissionService;
+    private final AsyncGradingService asyncGradingService;
 
     private static final String GUEST_ID_COOKIE_NAME = "guest_id";
     private static final int COOKIE_MAX_AGE = 60 * 60 * 24 * 30; // 30일
+    private static final String POLLING_INTERVAL_SECONDS = "1";
 
     /**
      * 모든 문제 조회
@@ -108,7 +118,7 @@ public class ProblemController {
             log.info("Guest user submission with guestId: {}", guestId);
         }
 
-        SolvedProblem solvedProblem = solvingService.submitAnswer(
+        SolvedProblem solvedProblem = submissionService.submitAnswer(
                 userId,
                 request.getProblemId(),
                 request.getUserAnswer(),
@@ -119,6 +129,81 @@ public class ProblemController {
                 .body(SolvedProblemResponse.from(solvedProblem));
     }
 
+    /*
+     답안 비동기 제출 (자유 선택 모드)
+     PENDING 상태로 저장 후 202 Accepted와 상태 조회 URL 반환
+     */
+    @PostMapping("/submit/async")
+    public ResponseEntity<SubmissionStatusResponse> submitAnswerAsync(
+            @RequestParam(required = false) Long userId,
+            @Valid @RequestBody SubmitAnswerRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) {
+        String guestId = null;
+        if (userId == null) {
+            guestId = getOrCreateGuestId(httpRequest, httpResponse);
+        }
+
+        SolvedProblem pending = asyncGradingService.submit(
+                userId,
+                request.getProblemId(),
+                request.getUserAnswer(),
+                guestId
+        );
+
+        SubmissionStatusResponse response = SubmissionStatusResponse.from(pending);
+        return ResponseEntity.accepted()
+                .location(URI.create(response.getStatusUrl()))
+                .header(HttpHeaders.RETRY_AFTER, POLLING_INTERVAL_SECONDS)
+                .body(response);
+    }
+
+    /*
+     답안 스트리밍 제출 (자유 선택 모드)
+     채점 피드백을 생성되는 대로 SSE로 전달 (accepted → token... → result 또는 error, reset이 오면 받은 token을 버림)
+     */
+    @PostMapping("/submit/stream")
+    public SseEmitter submitAnswerStream(
+            @RequestParam(required = false) Long userId,
+            @Valid @RequestBody SubmitAnswerRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) {
+        String guestId = null;
+        if (userId == null) {
+            guestId = getOrCreateGuestId(httpRequest, httpResponse);
+        }
+
+        return asyncGradingService.submitStreaming(
+                userId,
+                request.getProblemId(),
+                request.getUserAnswer(),
+                guestId
+        );
+    }
+
+    /*
+     비동기 제출 채점 상태 조회 (폴링용, 본인 제출만)
+     로그인 사용자는 JWT의 userId, 비로그인 사용자는 guest_id 쿠키로 소유자 확인
+     */
+    @GetMapping("/submissions/{submissionId}")
+    public ResponseEntity<SubmissionStatusResponse> getSubmissionStatus(
+            @PathVariable Long submissionId,
+            HttpServletRequest httpRequest
+    ) {
+        Long requesterId = (Long) httpRequest.getAttribute("userId");
+        SolvedProblem solvedProblem = asyncGradingService.getSubmission(submissionId, requesterId, findGuestId(httpRequest));
+        SubmissionStatusResponse response = SubmissionStatusResponse.from(solvedProblem);
+
+        if (response.getStatus() == GradingStatus.PENDING) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.RETRY_AFTER, POLLING_INTERVAL_SECONDS)
+                    .body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
     /*
       풀이 기록 조회 (로그인 사용자만)
      */
@@ -140,15 +225,10 @@ public class ProblemController {
      */
     private String getOrCreateGuestId(HttpServletRequest request, HttpServletResponse response) {
         // 쿠키에서 기존 guestId 확인
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (GUEST_ID_COOKIE_NAME.equals(cookie.getName())) {
-                    String existingGuestId = cookie.getValue();
-                    log.debug("Found existing guestId in cookie: {}", existingGuestId);
-                    return existingGuestId;
-                }
-            }
+        String existingGuestId = findGuestId(request);
+        if (existingGuestId != null) {
+            log.debug("Found existing guestId in cookie: {}", existingGuestId);
+            return existingGuestId;
         }
 
         // 쿠키 없으면 새 UUID 생성
@@ -165,4 +245,19 @@ public class ProblemController {
 
         return newGuestId;
     }
+
+    /**
+     * 쿠키의 guestId (없으면 null, 새로 만들지 않음)
+     */
+    private String findGuestId(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (GUEST_ID_COOKIE_NAME.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
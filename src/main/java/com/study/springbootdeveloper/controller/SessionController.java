@@ -8,13 +8,15 @@ import com.study.springbootdeveloper.dto.request.SubmitAnswerRequest;
 import com.study.springbootdeveloper.dto.response.ProblemResponse;
 import com.study.springbootdeveloper.dto.response.SessionResponse;
 import com.study.springbootdeveloper.dto.response.SolvedProblemResponse;
+import com.study.springbootdeveloper.service.AsyncGradingService;
 import com.study.springbootdeveloper.service.SessionService;
-import com.study.springbootdeveloper.service.SolvingService;
+import com.study.springbootdeveloper.service.SubmissionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,7 +27,8 @@ import java.util.stream.Collectors;
 public class SessionController {
 
     private final SessionService sessionService;
-    private final SolvingService solvingService;
+    private final SubmissionService submissionService;
+    private final AsyncGradingService asyncGradingService;
 
     /**
      * 챌린지 세션 생성
@@ -78,7 +81,7 @@ public class SessionController {
             @PathVariable Long sessionId,
             @Valid @RequestBody SubmitAnswerRequest request
     ) {
-        SolvedProblem solvedProblem = solvingService.submitAnswerInSession(
+        SolvedProblem solvedProblem = submissionService.submitAnswerInSession(
                 sessionId,
                 request.getProblemId(),
                 request.getUserAnswer()
@@ -88,6 +91,21 @@ public class SessionController {
                 .body(SolvedProblemResponse.from(solvedProblem));
     }
 
+    /**
+     * 세션 내 답안 스트리밍 제출 (채점 피드백을 SSE로 전달)
+     */
+    @PostMapping("/{sessionId}/submit/stream")
+    public SseEmitter submitAnswerInSessionStream(
+            @PathVariable Long sessionId,
+            @Valid @RequestBody SubmitAnswerRequest request
+    ) {
+        return asyncGradingService.submitStreamingInSession(
+                sessionId,
+                request.getProblemId(),
+                request.getUserAnswer()
+        );
+    }
+
     /**
      * 세션 완료
      */
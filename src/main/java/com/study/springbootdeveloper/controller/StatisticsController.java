@@ -1,16 +1,28 @@
 package com.study.springbootdeveloper.controller;
 
-import com.study.springbootdeveloper.domain.SolvedProblem;
 import com.study.springbootdeveloper.dto.response.*;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.service.ActivityRollupService;
+import com.study.springbootdeveloper.service.HistoryExportService;
 import com.study.springbootdeveloper.service.StatisticsService;
+import com.study.springbootdeveloper.type.ActivityGranularity;
 import com.study.springbootdeveloper.type.Category;
 import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.ErrorCode;
+import com.study.springbootdeveloper.type.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,6 +33,8 @@ import java.util.stream.Collectors;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final ActivityRollupService activityRollupService;
+    private final HistoryExportService historyExportService;
 
     /**
      * 전체 통계 조회
@@ -67,17 +81,74 @@ public class StatisticsController {
     }
 
     /**
-     * 오답 노트 (틀린 문제만)
+     * 오답 노트 (틀린 문제만, 커서 기반 페이지)
      */
-    @Operation(summary = "오답 노트", description = "틀린 문제만 모아서 조회합니다.")
+    @Operation(summary = "오답 노트", description = "틀린 문제를 최근 순으로 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
     @GetMapping("/user/{userId}/wrong-answers")
-    public ResponseEntity<List<SolvedProblemResponse>> getWrongAnswers(@PathVariable Long userId) {
-        List<SolvedProblem> wrongAnswers = statisticsService.getWrongAnswers(userId);
+    public ResponseEntity<WrongAnswerPageResponse> getWrongAnswers(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) DifficultyType difficulty,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        WrongAnswerPageResponse page = statisticsService.getWrongAnswers(userId, category, difficulty, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 오답 노트 단건 조회 (AI 피드백 포함)
+     */
+    @Operation(summary = "오답 상세", description = "오답 노트 항목의 답안과 AI 피드백을 조회합니다.")
+    @GetMapping("/user/{userId}/wrong-answers/{solvedProblemId}")
+    public ResponseEntity<SolvedProblemResponse> getWrongAnswer(
+            @PathVariable Long userId,
+            @PathVariable Long solvedProblemId
+    ) {
+        return ResponseEntity.ok(statisticsService.getWrongAnswer(userId, solvedProblemId));
+    }
 
-        List<SolvedProblemResponse> responses = wrongAnswers.stream()
-                .map(SolvedProblemResponse::from)
+    /**
+     * 기간별 활동 (히트맵/진행 그래프용)
+     */
+    @Operation(summary = "기간별 활동", description = "from~to 기간의 일/주/월별 제출 수, 정답률, 평균 점수를 조회합니다. 활동이 있는 구간만 반환합니다.")
+    @GetMapping("/user/{userId}/activity")
+    public ResponseEntity<List<ActivityBucketResponse>> getActivity(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") ActivityGranularity granularity
+    ) {
+        List<ActivityBucketResponse> activity = activityRollupService.getUserActivity(userId, from, to, granularity).stream()
+                .map(ActivityBucketResponse::from)
                 .collect(Collectors.toList());
+        return ResponseEntity.ok(activity);
+    }
+
+    /**
+     * 전체 풀이 이력 내보내기 (본인 또는 관리자만)
+     */
+    @Operation(summary = "풀이 이력 내보내기", description = "문제, 답안, 점수, 피드백, 제출 시각을 포함한 전체 풀이 이력을 CSV 또는 NDJSON으로 내려받습니다. gzip=true면 gzip으로 압축합니다.")
+    @GetMapping("/user/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest request
+    ) {
+        Long requesterId = (Long) request.getAttribute("userId");
+        if (!userId.equals(requesterId) && !request.isUserInRole("ADMIN")) {
+            throw new RestApiException(ErrorCode.FORBIDDEN);
+        }
+
+        String filename = "history-" + userId + "." + format.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8");
 
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(historyExportService.export(userId, format, gzip));
     }
 }
\ No newline at end of file
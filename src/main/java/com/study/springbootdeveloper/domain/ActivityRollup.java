@@ -0,0 +1,59 @@
+package com.study.springbootdeveloper.domain;
+
+import com.study.springbootdeveloper.type.ActivityGranularity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+ 기간별 풀이 활동 집계 (사용자별 + 전체)
+ userId: 0이면 사이트 전체 집계
+ 채점 완료 시 DAY 행만 증가시키고, 보존 기간이 지난 DAY 행은 WEEK/MONTH 행으로 합친 뒤 삭제 (ActivityRollupService.compact)
+ WEEK/MONTH 행에는 합쳐진 DAY 행만 들어 있으므로 조회 시 남아 있는 DAY 행과 더하면 정확한 구간 합계가 됨
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(name = "activity_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_activity_rollup_user_granularity_bucket",
+                columnNames = {"user_id", "granularity", "bucket_start"}))
+public class ActivityRollup {
+
+    public static final long GLOBAL_USER_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ActivityGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(nullable = false)
+    private Long submissions;
+
+    @Column(nullable = false)
+    private Long correctCount;
+
+    @Column(nullable = false)
+    private Long scoredCount;
+
+    @Column(nullable = false)
+    private Long scoreSum;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
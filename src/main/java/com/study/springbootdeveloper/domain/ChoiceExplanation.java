@@ -0,0 +1,57 @@
+package com.study.springbootdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/*
+ 객관식 선택지별 보충 설명 (미리 생성해 두고 제출 시 조회)
+ problemHash: 생성 당시 문제 내용(문제/정답/해설)의 해시, 문제가 수정되면 불일치로 무효 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(name = "choice_explanations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_choice_explanation_problem_choice",
+                columnNames = {"problem_id", "choice_hash"}))
+public class ChoiceExplanation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "problem_id", nullable = false)
+    private Long problemId;
+
+    @Column(name = "choice_hash", nullable = false, length = 64)
+    private String choiceHash;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String choiceText;
+
+    @Column(nullable = false)
+    private Boolean isCorrect;
+
+    @Column(nullable = false, length = 64)
+    private String problemHash;
+
+    @Column(columnDefinition = "TEXT")
+    private String explanation;
+
+    @Column(nullable = false)
+    private LocalDateTime generatedAt;
+
+    public void refresh(String choiceText, Boolean isCorrect, String problemHash, String explanation) {
+        this.choiceText = choiceText;
+        this.isCorrect = isCorrect;
+        this.problemHash = problemHash;
+        this.explanation = explanation;
+        this.generatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.springbootdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/*
+ 객관식 문제의 선택지별 선택 횟수
+ choiceHash: 채점과 같은 기준(앞뒤 공백 제거, 대소문자 무시)으로 정규화한 답안의 해시
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(name = "problem_choice_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_problem_choice_stats_problem_choice",
+                columnNames = {"problem_id", "choice_hash"}))
+public class ProblemChoiceStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "problem_id", nullable = false)
+    private Long problemId;
+
+    @Column(name = "choice_hash", nullable = false, length = 64)
+    private String choiceHash;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String choiceText;
+
+    @Column(nullable = false)
+    private Long chosenCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
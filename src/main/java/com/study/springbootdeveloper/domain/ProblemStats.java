@@ -0,0 +1,45 @@
+package com.study.springbootdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/*
+ 문제별 풀이 집계 (전체 사용자, 비로그인 포함)
+ 채점 완료 시 같은 트랜잭션에서 원자적으로 증가, solved_problem 이력에서 다시 계산 가능 (ProblemAnalyticsService.rebuild)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(name = "problem_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_problem_stats_problem", columnNames = "problem_id"))
+public class ProblemStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "problem_id", nullable = false)
+    private Long problemId;
+
+    @Column(nullable = false)
+    private Long attempts;
+
+    @Column(nullable = false)
+    private Long correctCount;
+
+    @Column(nullable = false)
+    private Long scoredCount;
+
+    @Column(nullable = false)
+    private Long scoreSum;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
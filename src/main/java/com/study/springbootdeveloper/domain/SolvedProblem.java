@@ -1,5 +1,6 @@
 package com.study.springbootdeveloper.domain;
 
+import com.study.springbootdeveloper.type.GradingStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,6 +14,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
+@Table(indexes = @Index(name = "idx_solved_problem_user_correct_solved_at",
+        columnList = "user_id, is_correct, solved_at, id"))
 public class SolvedProblem {
 
     @Id
@@ -44,6 +47,14 @@ public class SolvedProblem {
     @Column(length = 36)
     private String guestId;
 
+    /*
+     채점 상태 (비동기 채점 시 PENDING → COMPLETED/FAILED)
+     기존 데이터는 null이며 채점 완료로 간주
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private GradingStatus status;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime solvedAt;
 
@@ -57,4 +68,8 @@ public class SolvedProblem {
         this.score = score;
         this.aiFeedback = aiFeedback;
     }
+
+    public GradingStatus getStatus() {
+        return status != null ? status : GradingStatus.COMPLETED;
+    }
 }
\ No newline at end of file
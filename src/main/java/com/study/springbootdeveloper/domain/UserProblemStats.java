@@ -0,0 +1,57 @@
+package com.study.springbootdeveloper.domain;
+
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.DifficultyType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/*
+ 사용자별 (카테고리, 난이도) 풀이 통계 카운터
+ 채점 완료 시 같은 트랜잭션에서 원자적으로 증가시키고, 통계 조회는 이 테이블만 읽음 (사용자당 최대 카테고리×난이도 행)
+ solved_problem 이력에서 언제든 다시 계산할 수 있음 (UserStatsCounterService.rebuild)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(name = "user_problem_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_problem_stats_user_category_difficulty",
+                columnNames = {"user_id", "category", "difficulty"}))
+public class UserProblemStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DifficultyType difficulty;
+
+    @Column(nullable = false)
+    private Long solvedCount;
+
+    @Column(nullable = false)
+    private Long correctCount;
+
+    @Column(nullable = false)
+    private Long scoredCount;
+
+    @Column(nullable = false)
+    private Long scoreSum;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
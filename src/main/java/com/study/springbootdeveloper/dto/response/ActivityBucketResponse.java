@@ -0,0 +1,30 @@
+package com.study.springbootdeveloper.dto.response;
+
+import com.study.springbootdeveloper.service.ActivityRollupService;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ActivityBucketResponse {
+
+    private LocalDate bucketStart; // 구간 시작일 (DAY: 해당 날짜, WEEK: 월요일, MONTH: 1일)
+    private Long submissions;
+    private Long correctCount;
+    private Double accuracy; // 정답률 (%)
+    private Double averageScore;
+
+    public static ActivityBucketResponse from(ActivityRollupService.Bucket bucket) {
+        return ActivityBucketResponse.builder()
+                .bucketStart(bucket.bucketStart())
+                .submissions(bucket.submissions())
+                .correctCount(bucket.correct())
+                .accuracy(Math.round(bucket.accuracy() * 100.0) / 100.0)
+                .averageScore(Math.round(bucket.averageScore() * 100.0) / 100.0)
+                .build();
+    }
+}
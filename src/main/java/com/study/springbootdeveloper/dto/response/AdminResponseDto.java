@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -90,5 +91,284 @@ public class AdminResponseDto {
         private long totalProblems;
         private Map<String, Long> problemsByCategory;
         private Map<String, Long> problemsByDifficulty;
+        private LocalDateTime reconciledAt; // 마지막 DB 보정 시각
     }
-}
\ No newline at end of file
+
+    /**
+     * 대시보드 스냅샷 상태 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DashboardSnapshotResponse {
+        private long reads;
+        private long writes; // 문제/사용자 쓰기로 반영된 횟수
+        private long reconciles;
+        private long corrections; // 보정 시 DB 값과 달라 교정한 횟수
+        private LocalDateTime reconciledAt;
+    }
+
+    /**
+     * 채점 결과 캐시 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GradingCacheStatsResponse {
+        private int size;
+        private int maxSize;
+        private long hits;
+        private long misses;
+        private double hitRatio; // 적중률 (%)
+        private long evictions;
+        private long invalidations;
+    }
+
+    /**
+     * Gemini 배치 채점 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GradingBatchStatsResponse {
+        private boolean enabled;
+        private long windowMs;
+        private int maxBatchSize;
+        private long batches;
+        private long items;
+        private long failedBatches;
+        private int queueDepth;
+        private double averageBatchSize;
+        private double averageFillRatio; // 평균 배치 채움률 (%)
+        private Map<Integer, Long> sizeHistogram; // 배치 크기별 전송 횟수
+    }
+
+    /**
+     * Gemini 서킷 브레이커/벌크헤드 상태 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GeminiResilienceResponse {
+        private String circuitState; // CLOSED, OPEN, HALF_OPEN
+        private int bufferedCalls;
+        private int failedCalls;
+        private int slowCalls;
+        private double failureRate; // 실패율 (%)
+        private double slowCallRate; // 지연 호출 비율 (%)
+        private long circuitRejections; // 서킷 차단으로 거절된 호출 수
+        private long openTransitions; // OPEN 전환 횟수
+        private int maxConcurrentCalls;
+        private int inFlightCalls;
+        private long bulkheadRejections; // 동시 호출 초과로 거절된 호출 수
+    }
+
+    /**
+     * 객관식 보충 설명 저장소 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChoiceExplanationStatsResponse {
+        private long stored; // 저장된 선택지 설명 수
+        private long hits;
+        private long misses;
+        private double hitRatio; // 적중률 (%)
+        private long generated;
+        private long generationFailures;
+        private int pendingRefreshes; // 갱신 대기 중인 문제 수
+    }
+
+    /**
+     * 채점 레인별 대기열 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GradingLaneStatsResponse {
+        private String lane; // CHALLENGE, FREE, GUEST (우선순위 순)
+        private int queueDepth;
+        private long submitted;
+        private long completed;
+        private long rejected; // 대기열이 가득 차 거절된 작업 수
+        private long promoted; // 기아 방지로 상위 레인보다 먼저 처리된 작업 수
+        private double averageWaitMs;
+        private long maxWaitMs;
+    }
+
+    /**
+     * Gemini 헤지 요청 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GeminiHedgingStatsResponse {
+        private boolean enabled;
+        private long calls;
+        private long hedges; // 추가로 보낸 헤지 요청 수
+        private long hedgeWins; // 헤지 요청이 먼저 응답한 횟수
+        private long budgetDenied; // 예산/슬롯 부족으로 헤지하지 못한 횟수
+        private double hedgeRate; // %
+        private double hedgeWinRate; // 헤지 요청 중 먼저 응답한 비율 (%)
+        private long hedgeDelayMs; // 현재 헤지 기준 시간 (-1: 샘플 부족)
+    }
+
+    /**
+     * Gemini 응답 파싱 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GeminiResponseParseStatsResponse {
+        private long parsedResponses; // 정상 파싱된 채점 응답 수
+        private long parseFailures; // 형식이 맞지 않아 폴백 채점으로 넘어간 응답 수
+        private double parseFailureRate; // %
+    }
+
+    /**
+     * 제출 속도 제한 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SubmissionRateLimitStatsResponse {
+        private int trackedKeys; // 현재 추적 중인 키 수
+        private List<RateLimitKeyStats> quotas;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RateLimitKeyStats {
+        private String keyType; // GUEST, USER, IP
+        private int limit;
+        private long periodSeconds;
+        private int burst;
+        private long allowed;
+        private long rejected;
+    }
+
+    /**
+     * 동시 채점 요청 합치기(single-flight) 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GradingCoalescingStatsResponse {
+        private long gradingExecutions; // 실제 실행된 채점 호출 수
+        private long gradingCollapsed; // 진행 중인 호출에 합쳐진 채점 요청 수
+        private int gradingInFlight;
+        private long explanationExecutions;
+        private long explanationCollapsed;
+        private int explanationInFlight;
+    }
+
+    /**
+     * 사용자 통계 카운터 상태 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserStatsCounterResponse {
+        private long increments; // 채점 완료로 증가한 횟수
+        private long rebuilds; // 완료된 전체 재계산 횟수
+        private boolean rebuildRunning;
+        private long lastRebuildUsers;
+        private long lastRebuildMs;
+    }
+
+    /**
+     * 사용자 통계 캐시 통계 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserStatsCacheResponse {
+        private int size;
+        private int maxSize;
+        private long hits;
+        private long misses;
+        private double hitRatio; // 적중률 (%)
+        private long loads; // 실제 실행된 통계 집계 수
+        private long collapsedLoads; // 진행 중인 집계에 합쳐진 조회 수
+        private long evictions;
+        private long invalidations;
+    }
+
+    /**
+     * 문제별 분석 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProblemAnalyticsResponse {
+        private Long problemId;
+        private String category;
+        private String difficulty;
+        private String problemType;
+        private String question;
+        private long attempts;
+        private long correctCount;
+        private double accuracy; // 정답률 (%)
+        private double averageScore;
+        private List<ChoiceDistribution> choices; // 객관식 선택지별 선택 수 (많이 고른 순)
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChoiceDistribution {
+        private String choice;
+        private long count;
+        private double ratio; // 전체 선택 대비 비율 (%)
+        private boolean answer; // 정답 선택지 여부
+    }
+
+    /**
+     * 문제 난이도 순위 항목 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProblemRankingResponse {
+        private Long problemId;
+        private String category;
+        private String difficulty;
+        private String problemType;
+        private String question;
+        private long attempts;
+        private long correctCount;
+        private double accuracy; // 정답률 (%)
+        private double averageScore;
+    }
+
+    /**
+     * 문제별 분석 재계산 요청 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProblemAnalyticsRebuildResponse {
+        private boolean scheduled; // 이번 요청으로 새로 예약되었는지 (이미 실행 중이면 false)
+        private boolean running;
+        private long lastRebuildProblems;
+        private long lastRebuildMs;
+    }
+}
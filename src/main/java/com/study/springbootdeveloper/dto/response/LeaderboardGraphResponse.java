@@ -0,0 +1,54 @@
+package com.study.springbootdeveloper.dto.response;
+
+import com.study.springbootdeveloper.service.LeaderboardHistoryService;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.LeaderboardPeriod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class LeaderboardGraphResponse {
+
+    private Long userId;
+    private String nickname;
+    private LeaderboardPeriod period;
+    private Category category; // null이면 전체 순위
+    private List<Point> points;
+
+    public static LeaderboardGraphResponse of(Long userId, String nickname, LeaderboardPeriod period, Category category,
+                                              List<LeaderboardHistoryService.Point> points) {
+        return LeaderboardGraphResponse.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .period(period)
+                .category(category)
+                .points(points.stream().map(Point::from).collect(Collectors.toList()))
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime takenAt;
+        private Integer rank;   // 스냅샷 당시 상위 집계 범위 밖이면 null
+        private Long score;
+        private int totalUsers;
+
+        public static Point from(LeaderboardHistoryService.Point point) {
+            return Point.builder()
+                    .takenAt(point.takenAt())
+                    .rank(point.rank())
+                    .score(point.score())
+                    .totalUsers(point.totalUsers())
+                    .build();
+        }
+    }
+}
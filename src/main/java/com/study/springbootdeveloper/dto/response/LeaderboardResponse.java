@@ -0,0 +1,50 @@
+package com.study.springbootdeveloper.dto.response;
+
+import com.study.springbootdeveloper.service.LeaderboardService;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class LeaderboardResponse {
+
+    private List<Entry> rankings;
+    private int totalUsers;
+    private Entry me; // 요청한 사용자의 순위 (지정하지 않았거나 순위가 없으면 null)
+
+    public static LeaderboardResponse from(LeaderboardService.Page page, LeaderboardService.Ranking me) {
+        return LeaderboardResponse.builder()
+                .rankings(page.rankings().stream().map(Entry::from).collect(Collectors.toList()))
+                .totalUsers(page.totalUsers())
+                .me(me != null ? Entry.from(me) : null)
+                .build();
+    }
+
+    public LeaderboardResponse withMe(LeaderboardService.Ranking ranking) {
+        return new LeaderboardResponse(rankings, totalUsers, ranking != null ? Entry.from(ranking) : null);
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Entry {
+        private int rank;
+        private Long userId;
+        private String nickname;
+        private long score; // 채점된 풀이 점수 합계
+
+        public static Entry from(LeaderboardService.Ranking ranking) {
+            return Entry.builder()
+                    .rank(ranking.rank())
+                    .userId(ranking.userId())
+                    .nickname(ranking.nickname())
+                    .score(ranking.score())
+                    .build();
+        }
+    }
+}
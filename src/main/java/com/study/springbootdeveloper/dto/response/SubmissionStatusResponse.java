@@ -0,0 +1,35 @@
+package com.study.springbootdeveloper.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.study.springbootdeveloper.domain.SolvedProblem;
+import com.study.springbootdeveloper.type.GradingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SubmissionStatusResponse {
+
+    private Long submissionId;
+    private GradingStatus status;
+    private String statusUrl;               // 폴링용 URL
+    private SolvedProblemResponse result;   // 채점 완료 시에만
+
+    public static SubmissionStatusResponse from(SolvedProblem solvedProblem) {
+        return SubmissionStatusResponse.builder()
+                .submissionId(solvedProblem.getId())
+                .status(solvedProblem.getStatus())
+                .statusUrl(statusUrlOf(solvedProblem.getId()))
+                .result(solvedProblem.getStatus() == GradingStatus.COMPLETED
+                        ? SolvedProblemResponse.from(solvedProblem)
+                        : null)
+                .build();
+    }
+
+    public static String statusUrlOf(Long submissionId) {
+        return "/api/problems/submissions/" + submissionId;
+    }
+}
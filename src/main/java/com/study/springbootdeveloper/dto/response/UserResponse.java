@@ -1,6 +1,5 @@
 package com.study.springbootdeveloper.dto.response;
 
-import com.study.springbootdeveloper.domain.SolvedProblem;
 import lombok.Builder;
 import lombok.Data;
 
@@ -14,6 +13,6 @@ public class UserResponse {
     private Long userId;
     private String loginId;
     private String nickname;
-    private List<SolvedProblem> solvedProblems;
+    private List<SolvedProblemResponse> solvedProblems;
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,55 @@
+package com.study.springbootdeveloper.dto.response;
+
+import com.study.springbootdeveloper.repository.SolvedProblemRepository;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.ProblemType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오답 노트 페이지 (커서 기반)
+ * 목록에는 AI 피드백을 싣지 않고, 필요할 때 단건 조회로 가져옴
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class WrongAnswerPageResponse {
+
+    private List<Item> items;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private Long problemId;
+        private Category category;
+        private DifficultyType difficulty;
+        private ProblemType problemType;
+        private String question;
+        private String userAnswer;
+        private Integer score;
+        private LocalDateTime solvedAt;
+
+        public static Item from(SolvedProblemRepository.WrongAnswerRow row) {
+            return Item.builder()
+                    .id(row.getId())
+                    .problemId(row.getProblemId())
+                    .category(row.getCategory())
+                    .difficulty(row.getDifficulty())
+                    .problemType(row.getProblemType())
+                    .question(row.getQuestion())
+                    .userAnswer(row.getUserAnswer())
+                    .score(row.getScore())
+                    .solvedAt(row.getSolvedAt())
+                    .build();
+        }
+    }
+}
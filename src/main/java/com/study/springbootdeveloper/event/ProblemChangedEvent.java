@@ -0,0 +1,14 @@
+package com.study.springbootdeveloper.event;
+
+/**
+ * 관리자에 의한 문제 생성/수정/삭제 이벤트
+ * 문제 내용에 의존하는 캐시/파생 데이터 갱신에 사용
+ */
+public record ProblemChangedEvent(Long problemId, ChangeType changeType) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,16 @@
+package com.study.springbootdeveloper.event;
+
+import com.study.springbootdeveloper.type.Category;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제출 채점 완료 이벤트 (채점 결과 반영 트랜잭션에서 발행)
+ * 사용자 통계 캐시 등 채점 결과에 의존하는 파생 데이터 갱신에 사용
+ *
+ * @param userId 비로그인 제출이면 null
+ * @param solvedAt 제출 시각 (기간 리더보드 집계 기준)
+ */
+public record SubmissionGradedEvent(Long solvedProblemId, Long userId, Long problemId, Category category,
+                                    boolean correct, Integer score, LocalDateTime solvedAt) {
+}
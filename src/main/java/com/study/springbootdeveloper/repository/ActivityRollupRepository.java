@@ -0,0 +1,113 @@
+package com.study.springbootdeveloper.repository;
+
+import com.study.springbootdeveloper.domain.ActivityRollup;
+import com.study.springbootdeveloper.type.ActivityGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+
+    // 구간 조회 (unique 인덱스 (user_id, granularity, bucket_start) 범위 스캔)
+    @Query("SELECT a FROM ActivityRollup a " +
+            "WHERE a.userId = :userId AND a.granularity = :granularity " +
+            "AND a.bucketStart BETWEEN :from AND :to " +
+            "ORDER BY a.bucketStart")
+    List<ActivityRollup> findRange(@Param("userId") Long userId,
+                                   @Param("granularity") ActivityGranularity granularity,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+
+    /**
+     * 채점 완료 1건을 DAY 행에 반영 (행이 없으면 생성, 있으면 DB에서 원자적으로 증가)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO activity_rollup " +
+            "(user_id, granularity, bucket_start, submissions, correct_count, scored_count, score_sum, updated_at) " +
+            "VALUES (:userId, 'DAY', :day, 1, :correct, :scored, :score, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "submissions = submissions + 1, " +
+            "correct_count = correct_count + VALUES(correct_count), " +
+            "scored_count = scored_count + VALUES(scored_count), " +
+            "score_sum = score_sum + VALUES(score_sum), " +
+            "updated_at = NOW()", nativeQuery = true)
+    int incrementDay(@Param("userId") Long userId,
+                     @Param("day") LocalDate day,
+                     @Param("correct") int correct,
+                     @Param("scored") int scored,
+                     @Param("score") int score);
+
+    /**
+     * 메모리에 모아 둔 여러 건의 합계를 DAY 행에 한 번에 반영 (전체 집계 주기 반영용)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO activity_rollup " +
+            "(user_id, granularity, bucket_start, submissions, correct_count, scored_count, score_sum, updated_at) " +
+            "VALUES (:userId, 'DAY', :day, :submissions, :correct, :scored, :score, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "submissions = submissions + VALUES(submissions), " +
+            "correct_count = correct_count + VALUES(correct_count), " +
+            "scored_count = scored_count + VALUES(scored_count), " +
+            "score_sum = score_sum + VALUES(score_sum), " +
+            "updated_at = NOW()", nativeQuery = true)
+    int addDay(@Param("userId") Long userId,
+               @Param("day") LocalDate day,
+               @Param("submissions") long submissions,
+               @Param("correct") long correct,
+               @Param("scored") long scored,
+               @Param("score") long score);
+
+    /**
+     * cutoff 이전 DAY 행을 주(월요일 시작) 단위로 합쳐 WEEK 행에 더함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO activity_rollup " +
+            "(user_id, granularity, bucket_start, submissions, correct_count, scored_count, score_sum, updated_at) " +
+            "SELECT * FROM (" +
+            "SELECT d.user_id, 'WEEK', DATE_SUB(d.bucket_start, INTERVAL WEEKDAY(d.bucket_start) DAY) AS week_start, " +
+            "SUM(d.submissions) AS submissions, SUM(d.correct_count) AS correct_count, " +
+            "SUM(d.scored_count) AS scored_count, SUM(d.score_sum) AS score_sum, NOW() " +
+            "FROM activity_rollup d WHERE d.granularity = 'DAY' AND d.bucket_start < :cutoff " +
+            "GROUP BY d.user_id, week_start) AS compacted " +
+            "ON DUPLICATE KEY UPDATE " +
+            "submissions = activity_rollup.submissions + compacted.submissions, " +
+            "correct_count = activity_rollup.correct_count + compacted.correct_count, " +
+            "scored_count = activity_rollup.scored_count + compacted.scored_count, " +
+            "score_sum = activity_rollup.score_sum + compacted.score_sum, " +
+            "updated_at = NOW()", nativeQuery = true)
+    int mergeDaysIntoWeeks(@Param("cutoff") LocalDate cutoff);
+
+    /**
+     * cutoff 이전 DAY 행을 월 단위로 합쳐 MONTH 행에 더함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO activity_rollup " +
+            "(user_id, granularity, bucket_start, submissions, correct_count, scored_count, score_sum, updated_at) " +
+            "SELECT * FROM (" +
+            "SELECT d.user_id, 'MONTH', DATE_SUB(d.bucket_start, INTERVAL DAYOFMONTH(d.bucket_start) - 1 DAY) AS month_start, " +
+            "SUM(d.submissions) AS submissions, SUM(d.correct_count) AS correct_count, " +
+            "SUM(d.scored_count) AS scored_count, SUM(d.score_sum) AS score_sum, NOW() " +
+            "FROM activity_rollup d WHERE d.granularity = 'DAY' AND d.bucket_start < :cutoff " +
+            "GROUP BY d.user_id, month_start) AS compacted " +
+            "ON DUPLICATE KEY UPDATE " +
+            "submissions = activity_rollup.submissions + compacted.submissions, " +
+            "correct_count = activity_rollup.correct_count + compacted.correct_count, " +
+            "scored_count = activity_rollup.scored_count + compacted.scored_count, " +
+            "score_sum = activity_rollup.score_sum + compacted.score_sum, " +
+            "updated_at = NOW()", nativeQuery = true)
+    int mergeDaysIntoMonths(@Param("cutoff") LocalDate cutoff);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ActivityRollup a WHERE a.granularity = :granularity AND a.bucketStart < :cutoff")
+    int deleteBefore(@Param("granularity") ActivityGranularity granularity, @Param("cutoff") LocalDate cutoff);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ActivityRollup a WHERE a.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,31 @@
+package com.study.springbootdeveloper.repository;
+
+import com.study.springbootdeveloper.domain.ChoiceExplanation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChoiceExplanationRepository extends JpaRepository<ChoiceExplanation, Long> {
+
+    Optional<ChoiceExplanation> findByProblemIdAndChoiceHash(Long problemId, String choiceHash);
+
+    List<ChoiceExplanation> findByProblemId(Long problemId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ChoiceExplanation c WHERE c.problemId = :problemId")
+    int deleteByProblemId(@Param("problemId") Long problemId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ChoiceExplanation c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,34 @@
+package com.study.springbootdeveloper.repository;
+
+import com.study.springbootdeveloper.domain.ProblemChoiceStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProblemChoiceStatsRepository extends JpaRepository<ProblemChoiceStats, Long> {
+
+    List<ProblemChoiceStats> findByProblemIdOrderByChosenCountDesc(Long problemId);
+
+    /**
+     * 메모리에 모아 둔 선택 수를 한 번에 반영 (행이 없으면 생성, 있으면 DB에서 원자적으로 증가)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO problem_choice_stats " +
+            "(problem_id, choice_hash, choice_text, chosen_count, updated_at) " +
+            "VALUES (:problemId, :choiceHash, :choiceText, :count, NOW()) " +
+            "ON DUPLICATE KEY UPDATE chosen_count = chosen_count + VALUES(chosen_count), updated_at = NOW()",
+            nativeQuery = true)
+    int add(@Param("problemId") Long problemId,
+            @Param("choiceHash") String choiceHash,
+            @Param("choiceText") String choiceText,
+            @Param("count") long count);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ProblemChoiceStats c WHERE c.problemId = :problemId")
+    int deleteByProblemId(@Param("problemId") Long problemId);
+}
@@ -3,6 +3,7 @@ package com.study.springbootdeveloper.repository;
 import com.study.springbootdeveloper.domain.Problem;
 import com.study.springbootdeveloper.type.Category;
 import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.ProblemType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,12 +23,24 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
     // 카테고리 + 난이도 조회
     List<Problem> findByCategoryAndDifficulty(Category category, DifficultyType difficulty);
 
+    // 문제 유형별 조회
+    List<Problem> findByProblemType(ProblemType problemType);
+
     // 카테고리별 문제 개수
     long countByCategory(Category category);
 
     // 카테고리 + 난이도별 문제 개수
     long countByCategoryAndDifficulty(Category category, DifficultyType difficulty);
 
+    // 전체 문제 ID (집계 재계산용)
+    @Query("SELECT p.id FROM Problem p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    // (카테고리, 난이도)별 문제 개수 (통계 API용)
+    @Query("SELECT p.category AS category, p.difficulty AS difficulty, COUNT(p) AS problemCount " +
+            "FROM Problem p GROUP BY p.category, p.difficulty")
+    List<ProblemCount> countGroupByCategoryAndDifficulty();
+
     // 챌린지 모드용: 랜덤으로 N개 문제 가져오기
     @Query(value = "SELECT * FROM problems WHERE category = :category AND difficulty = :difficulty ORDER BY RAND() LIMIT :limit", nativeQuery = true)
     List<Problem> findRandomProblems(
@@ -35,4 +48,15 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
             @Param("difficulty") String difficulty,
             @Param("limit") int limit
     );
-}
\ No newline at end of file
+
+    /**
+     * (카테고리, 난이도)별 문제 개수 프로젝션
+     */
+    interface ProblemCount {
+        Category getCategory();
+
+        DifficultyType getDifficulty();
+
+        Long getProblemCount();
+    }
+}
@@ -0,0 +1,117 @@
+package com.study.springbootdeveloper.repository;
+
+import com.study.springbootdeveloper.domain.ProblemStats;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.ProblemType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProblemStatsRepository extends JpaRepository<ProblemStats, Long> {
+
+    Optional<ProblemStats> findByProblemId(Long problemId);
+
+    /**
+     * 메모리에 모아 둔 여러 건의 합계를 한 번에 반영 (행이 없으면 생성, 있으면 DB에서 원자적으로 증가)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO problem_stats " +
+            "(problem_id, attempts, correct_count, scored_count, score_sum, updated_at) " +
+            "VALUES (:problemId, :attempts, :correct, :scored, :score, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "attempts = attempts + VALUES(attempts), " +
+            "correct_count = correct_count + VALUES(correct_count), " +
+            "scored_count = scored_count + VALUES(scored_count), " +
+            "score_sum = score_sum + VALUES(score_sum), " +
+            "updated_at = NOW()", nativeQuery = true)
+    int add(@Param("problemId") Long problemId,
+            @Param("attempts") long attempts,
+            @Param("correct") long correct,
+            @Param("scored") long scored,
+            @Param("score") long score);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ProblemStats s WHERE s.problemId = :problemId")
+    int deleteByProblemId(@Param("problemId") Long problemId);
+
+    /**
+     * 특정 문제의 집계를 solved_problem 이력에서 다시 계산해 삽입 (deleteByProblemId 이후 호출)
+     * 채점이 끝난 기록(COMPLETED, 상태 없는 기존 데이터)만 집계
+     */
+    @Modifying
+    @Query(value = "INSERT INTO problem_stats " +
+            "(problem_id, attempts, correct_count, scored_count, score_sum, updated_at) " +
+            "SELECT sp.problem_id, COUNT(*), " +
+            "SUM(CASE WHEN sp.is_correct = TRUE THEN 1 ELSE 0 END), " +
+            "COUNT(sp.score), COALESCE(SUM(sp.score), 0), NOW() " +
+            "FROM solved_problem sp " +
+            "WHERE sp.problem_id = :problemId AND (sp.status IS NULL OR sp.status = 'COMPLETED') " +
+            "GROUP BY sp.problem_id", nativeQuery = true)
+    int insertFromHistory(@Param("problemId") Long problemId);
+
+    /**
+     * 정답률 낮은 순 (어려운 문제), 같으면 풀이 수 많은 순
+     * category/difficulty가 null이면 필터 없음
+     */
+    @Query("SELECT p.id AS problemId, p.category AS category, p.difficulty AS difficulty, " +
+            "p.problemType AS problemType, p.question AS question, " +
+            "s.attempts AS attempts, s.correctCount AS correctCount, " +
+            "s.scoredCount AS scoredCount, s.scoreSum AS scoreSum " +
+            "FROM ProblemStats s JOIN Problem p ON p.id = s.problemId " +
+            "WHERE s.attempts >= :minAttempts " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:difficulty IS NULL OR p.difficulty = :difficulty) " +
+            "ORDER BY (s.correctCount * 1.0 / s.attempts) ASC, s.attempts DESC, p.id ASC")
+    List<ProblemAnalyticsRow> findHardest(@Param("minAttempts") long minAttempts,
+                                          @Param("category") Category category,
+                                          @Param("difficulty") DifficultyType difficulty,
+                                          Pageable pageable);
+
+    /**
+     * 정답률 높은 순 (쉬운 문제), 같으면 풀이 수 많은 순
+     */
+    @Query("SELECT p.id AS problemId, p.category AS category, p.difficulty AS difficulty, " +
+            "p.problemType AS problemType, p.question AS question, " +
+            "s.attempts AS attempts, s.correctCount AS correctCount, " +
+            "s.scoredCount AS scoredCount, s.scoreSum AS scoreSum " +
+            "FROM ProblemStats s JOIN Problem p ON p.id = s.problemId " +
+            "WHERE s.attempts >= :minAttempts " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:difficulty IS NULL OR p.difficulty = :difficulty) " +
+            "ORDER BY (s.correctCount * 1.0 / s.attempts) DESC, s.attempts DESC, p.id ASC")
+    List<ProblemAnalyticsRow> findEasiest(@Param("minAttempts") long minAttempts,
+                                          @Param("category") Category category,
+                                          @Param("difficulty") DifficultyType difficulty,
+                                          Pageable pageable);
+
+    /**
+     * 문제별 분석 목록 프로젝션
+     */
+    interface ProblemAnalyticsRow {
+        Long getProblemId();
+
+        Category getCategory();
+
+        DifficultyType getDifficulty();
+
+        ProblemType getProblemType();
+
+        String getQuestion();
+
+        Long getAttempts();
+
+        Long getCorrectCount();
+
+        Long getScoredCount();
+
+        Long getScoreSum();
+    }
+}
@@ -3,14 +3,23 @@ package com.study.springbootdeveloper.repository;
 import com.study.springbootdeveloper.domain.SolvedProblem;
 import com.study.springbootdeveloper.type.Category;
 import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.GradingStatus;
+import com.study.springbootdeveloper.type.ProblemType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SolvedProblemRepository extends JpaRepository<SolvedProblem, Long> {
@@ -18,8 +27,62 @@ public interface SolvedProblemRepository extends JpaRepository<SolvedProblem, Lo
     // 특정 유저가 푼 모든 문제
     List<SolvedProblem> findByUserId(Long userId);
 
-    // 특정 유저가 특정 문제를 풀었는지 확인
-    boolean existsByUserIdAndProblemId(Long userId, Long problemId);
+    // 특정 유저가 특정 문제를 풀었는지 확인 (채점 중 기록 포함, 채점 실패 기록 제외)
+    @Query("SELECT COUNT(sp) > 0 FROM SolvedProblem sp " +
+            "WHERE sp.user.id = :userId AND sp.problem.id = :problemId AND (sp.status IS NULL OR sp.status <> :failed)")
+    boolean existsActiveByUserIdAndProblemId(@Param("userId") Long userId, @Param("problemId") Long problemId,
+                                             @Param("failed") GradingStatus failed);
+
+    // 세션 안에서 특정 문제를 풀었는지 확인 (채점 중 기록 포함, 채점 실패 기록 제외)
+    @Query("SELECT COUNT(sp) > 0 FROM SolvedProblem sp " +
+            "WHERE sp.session.id = :sessionId AND sp.problem.id = :problemId AND (sp.status IS NULL OR sp.status <> :failed)")
+    boolean existsActiveBySessionIdAndProblemId(@Param("sessionId") Long sessionId, @Param("problemId") Long problemId,
+                                                @Param("failed") GradingStatus failed);
+
+    // 재제출 전 이전 채점 실패 기록 삭제
+    @Modifying
+    @Query("DELETE FROM SolvedProblem sp WHERE sp.user.id = :userId AND sp.problem.id = :problemId AND sp.status = :status")
+    int deleteByUserIdAndProblemIdAndStatus(@Param("userId") Long userId, @Param("problemId") Long problemId,
+                                            @Param("status") GradingStatus status);
+
+    @Modifying
+    @Query("DELETE FROM SolvedProblem sp WHERE sp.session.id = :sessionId AND sp.problem.id = :problemId AND sp.status = :status")
+    int deleteBySessionIdAndProblemIdAndStatus(@Param("sessionId") Long sessionId, @Param("problemId") Long problemId,
+                                               @Param("status") GradingStatus status);
+
+    /**
+     * 채점 중(PENDING)인 기록에만 채점 결과 반영 (재제출로 지워졌거나 이미 실패 처리된 기록이면 0)
+     */
+    @Modifying
+    @Query("UPDATE SolvedProblem sp SET sp.status = :completed, sp.isCorrect = :isCorrect, " +
+            "sp.score = :score, sp.aiFeedback = :feedback " +
+            "WHERE sp.id = :id AND sp.status = :pending")
+    int completeIfPending(@Param("id") Long id, @Param("pending") GradingStatus pending,
+                          @Param("completed") GradingStatus completed, @Param("isCorrect") Boolean isCorrect,
+                          @Param("score") Integer score, @Param("feedback") String feedback);
+
+    /**
+     * 채점 중(PENDING)인 기록만 실패로 전환
+     */
+    @Modifying
+    @Query("UPDATE SolvedProblem sp SET sp.status = :failed, sp.aiFeedback = :reason " +
+            "WHERE sp.id IN :ids AND sp.status = :pending")
+    int failIfPending(@Param("ids") List<Long> ids, @Param("pending") GradingStatus pending,
+                      @Param("failed") GradingStatus failed, @Param("reason") String reason);
+
+    boolean existsByIdAndStatus(Long id, GradingStatus status);
+
+    /**
+     * 주어진 기록 중 채점 완료 상태로 보이는 id (리더보드 재구성 시 조회 스냅샷에 이미 포함된 점수 판별용)
+     */
+    @Query("SELECT sp.id FROM SolvedProblem sp WHERE sp.id IN :ids AND sp.status = :completed")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("completed") GradingStatus completed);
+
+    /**
+     * 오래 채점 중(PENDING)으로 남은 기록 (재기동/종료 시 유실된 채점 작업 후보)
+     */
+    @Query("SELECT sp.id FROM SolvedProblem sp WHERE sp.status = :pending AND sp.solvedAt < :cutoff")
+    List<Long> findPendingIdsBefore(@Param("pending") GradingStatus pending, @Param("cutoff") LocalDateTime cutoff);
 
     // 특정 유저가 특정 문제를 푼 기록 조회
     Optional<SolvedProblem> findByUserIdAndProblemId(Long userId, Long problemId);
@@ -42,8 +105,29 @@ public interface SolvedProblemRepository extends JpaRepository<SolvedProblem, Lo
             @Param("difficulty") DifficultyType difficulty
     );
 
-    // 틀린 문제만 조회 (오답노트용)
-    List<SolvedProblem> findByUserIdAndIsCorrect(Long userId, Boolean isCorrect);
+    /**
+     * 오답 노트 페이지 조회 (solvedAt, id 내림차순 커서 기반)
+     * 목록에 필요한 컬럼만 한 번의 JOIN으로 가져오고 aiFeedback은 제외
+     * cursorSolvedAt이 null이면 첫 페이지, category/difficulty가 null이면 필터 없음
+     */
+    @Query("SELECT sp.id AS id, p.id AS problemId, p.category AS category, p.difficulty AS difficulty, " +
+            "p.problemType AS problemType, p.question AS question, " +
+            "sp.userAnswer AS userAnswer, sp.score AS score, sp.solvedAt AS solvedAt " +
+            "FROM SolvedProblem sp JOIN sp.problem p " +
+            "WHERE sp.user.id = :userId AND sp.isCorrect = false " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:difficulty IS NULL OR p.difficulty = :difficulty) " +
+            "AND (:cursorSolvedAt IS NULL OR sp.solvedAt < :cursorSolvedAt " +
+            "OR (sp.solvedAt = :cursorSolvedAt AND sp.id < :cursorId)) " +
+            "ORDER BY sp.solvedAt DESC, sp.id DESC")
+    List<WrongAnswerRow> findWrongAnswerPage(
+            @Param("userId") Long userId,
+            @Param("category") Category category,
+            @Param("difficulty") DifficultyType difficulty,
+            @Param("cursorSolvedAt") LocalDateTime cursorSolvedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
     /**
      * 특정 guestId의 특정 기간 내 제출 횟수 조회
@@ -53,4 +137,118 @@ public interface SolvedProblemRepository extends JpaRepository<SolvedProblem, Lo
      * @return 제출 횟수
      */
     long countByGuestIdAndSolvedAtBetween(String guestId, LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * 특정 문제의 답안별 제출 수 (문제 분석 재계산용, 채점이 끝난 기록만)
+     */
+    @Query("SELECT sp.userAnswer AS userAnswer, COUNT(sp) AS chosenCount " +
+            "FROM SolvedProblem sp " +
+            "WHERE sp.problem.id = :problemId AND (sp.status IS NULL OR sp.status = :completed) " +
+            "GROUP BY sp.userAnswer")
+    List<AnswerCount> countAnswersByProblemId(@Param("problemId") Long problemId,
+                                              @Param("completed") GradingStatus completed);
+
+    /**
+     * since 이후 사용자·카테고리·시간(epoch 기준 시 단위)별 점수 합계 (기간 리더보드 초기화용, 채점이 끝난 로그인 제출만)
+     */
+    @Query(value = "SELECT sp.user_id AS userId, p.category AS category, " +
+            "TIMESTAMPDIFF(HOUR, '1970-01-01 00:00:00', sp.solved_at) AS epochHour, " +
+            "SUM(COALESCE(sp.score, 0)) AS scoreSum " +
+            "FROM solved_problem sp JOIN problems p ON p.id = sp.problem_id " +
+            "WHERE sp.user_id IS NOT NULL AND sp.solved_at >= :since " +
+            "AND (sp.status IS NULL OR sp.status = 'COMPLETED') " +
+            "GROUP BY sp.user_id, p.category, epochHour", nativeQuery = true)
+    List<HourlyScore> sumHourlyScoreSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자 전체 풀이 이력 (이력 내보내기용, 제출 시각 순)
+     * fetch size Integer.MIN_VALUE = MySQL 드라이버가 결과를 한 번에 받지 않고 한 행씩 읽는 스트리밍 모드
+     * 읽기 전용 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT sp.id AS id, p.id AS problemId, p.category AS category, p.difficulty AS difficulty, " +
+            "p.problemType AS problemType, p.question AS question, sp.userAnswer AS userAnswer, " +
+            "sp.isCorrect AS isCorrect, sp.score AS score, sp.status AS status, sp.aiFeedback AS aiFeedback, " +
+            "sp.solvedAt AS solvedAt " +
+            "FROM SolvedProblem sp JOIN sp.problem p " +
+            "WHERE sp.user.id = :userId " +
+            "ORDER BY sp.solvedAt, sp.id")
+    Stream<HistoryRow> streamHistoryByUserId(@Param("userId") Long userId);
+
+    /**
+     * 시간별 점수 합계 프로젝션
+     */
+    interface HourlyScore {
+        Long getUserId();
+
+        String getCategory();
+
+        Long getEpochHour();
+
+        Long getScoreSum();
+    }
+
+    /**
+     * 답안별 제출 수 프로젝션
+     */
+    interface AnswerCount {
+        String getUserAnswer();
+
+        Long getChosenCount();
+    }
+
+    /**
+     * 풀이 이력 내보내기 프로젝션
+     */
+    interface HistoryRow {
+        Long getId();
+
+        Long getProblemId();
+
+        Category getCategory();
+
+        DifficultyType getDifficulty();
+
+        ProblemType getProblemType();
+
+        String getQuestion();
+
+        String getUserAnswer();
+
+        Boolean getIsCorrect();
+
+        Integer getScore();
+
+        GradingStatus getStatus();
+
+        String getAiFeedback();
+
+        LocalDateTime getSolvedAt();
+    }
+
+    /**
+     * 오답 노트 목록 프로젝션
+     */
+    interface WrongAnswerRow {
+        Long getId();
+
+        Long getProblemId();
+
+        Category getCategory();
+
+        DifficultyType getDifficulty();
+
+        ProblemType getProblemType();
+
+        String getQuestion();
+
+        String getUserAnswer();
+
+        Integer getScore();
+
+        LocalDateTime getSolvedAt();
+    }
 }
\ No newline at end of file
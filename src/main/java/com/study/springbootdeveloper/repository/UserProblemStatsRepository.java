@@ -0,0 +1,78 @@
+package com.study.springbootdeveloper.repository;
+
+import com.study.springbootdeveloper.domain.UserProblemStats;
+import com.study.springbootdeveloper.type.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserProblemStatsRepository extends JpaRepository<UserProblemStats, Long> {
+
+    List<UserProblemStats> findByUserId(Long userId);
+
+    /**
+     * 채점 완료 1건 반영 (행이 없으면 생성, 있으면 DB에서 원자적으로 증가)
+     * 읽고-쓰기가 없어 같은 사용자의 동시 채점 완료도 유실 없이 누적됨
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_problem_stats " +
+            "(user_id, category, difficulty, solved_count, correct_count, scored_count, score_sum, updated_at) " +
+            "VALUES (:userId, :category, :difficulty, 1, :correct, :scored, :score, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "solved_count = solved_count + 1, " +
+            "correct_count = correct_count + VALUES(correct_count), " +
+            "scored_count = scored_count + VALUES(scored_count), " +
+            "score_sum = score_sum + VALUES(score_sum), " +
+            "updated_at = NOW()", nativeQuery = true)
+    int increment(@Param("userId") Long userId,
+                  @Param("category") String category,
+                  @Param("difficulty") String difficulty,
+                  @Param("correct") int correct,
+                  @Param("scored") int scored,
+                  @Param("score") int score);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM UserProblemStats s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 카운터를 solved_problem 이력에서 다시 계산해 삽입 (deleteByUserId 이후 호출)
+     * 채점이 끝난 기록(COMPLETED, 상태 없는 기존 데이터)만 집계
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_problem_stats " +
+            "(user_id, category, difficulty, solved_count, correct_count, scored_count, score_sum, updated_at) " +
+            "SELECT sp.user_id, p.category, p.difficulty, COUNT(*), " +
+            "SUM(CASE WHEN sp.is_correct = TRUE THEN 1 ELSE 0 END), " +
+            "COUNT(sp.score), COALESCE(SUM(sp.score), 0), NOW() " +
+            "FROM solved_problem sp JOIN problems p ON p.id = sp.problem_id " +
+            "WHERE sp.user_id = :userId AND (sp.status IS NULL OR sp.status = 'COMPLETED') " +
+            "GROUP BY sp.user_id, p.category, p.difficulty", nativeQuery = true)
+    int insertFromHistory(@Param("userId") Long userId);
+
+    // 사용자·카테고리별 누적 점수 (리더보드 초기화용, 사용자당 최대 카테고리×난이도 행만 합산)
+    @Query("SELECT s.userId AS userId, s.category AS category, SUM(s.scoreSum) AS totalScore " +
+            "FROM UserProblemStats s GROUP BY s.userId, s.category")
+    List<UserScore> sumScoreByUserAndCategory();
+
+    // 다시 계산할 대상 사용자 (풀이 기록이 있거나 카운터가 남아 있는 사용자)
+    @Query(value = "SELECT user_id FROM solved_problem WHERE user_id IS NOT NULL " +
+            "UNION SELECT user_id FROM user_problem_stats", nativeQuery = true)
+    List<Long> findRebuildTargetUserIds();
+
+    /**
+     * 사용자·카테고리별 누적 점수 프로젝션
+     */
+    interface UserScore {
+        Long getUserId();
+
+        Category getCategory();
+
+        Long getTotalScore();
+    }
+}
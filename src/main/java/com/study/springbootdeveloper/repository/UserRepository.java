@@ -3,8 +3,10 @@ package com.study.springbootdeveloper.repository;
 import com.study.springbootdeveloper.domain.User;
 import com.study.springbootdeveloper.type.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +17,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByLoginId(String loginId);
 
     long countByRole(UserRole role);
+
+    // 전체 사용자 닉네임 (리더보드 초기화용, 엔티티 로딩 없음)
+    @Query("SELECT u.id AS id, u.nickname AS nickname FROM User u")
+    List<UserNickname> findAllNicknames();
+
+    // 역할별 사용자 수 (대시보드 보정용)
+    @Query("SELECT u.role AS role, COUNT(u) AS userCount FROM User u GROUP BY u.role")
+    List<RoleCount> countGroupByRole();
+
+    interface UserNickname {
+        Long getId();
+
+        String getNickname();
+    }
+
+    interface RoleCount {
+        UserRole getRole();
+
+        Long getUserCount();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.ActivityRollup;
+import com.study.springbootdeveloper.domain.SolvedProblem;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.repository.ActivityRollupRepository;
+import com.study.springbootdeveloper.type.ActivityGranularity;
+import com.study.springbootdeveloper.type.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기간별 풀이 활동 집계 (활동 히트맵, 기간별 진행 그래프)
+ * - 채점 완료 트랜잭션 안에서 사용자 DAY 행을 원자적으로 증가
+ * - 전체(user_id=0) DAY 행은 모든 채점이 같은 행을 잠그게 되므로, 커밋된 채점만 메모리에 날짜별로 모아
+ *   global-flush-interval-ms마다 한 번에 반영 (전체 활동 조회는 최대 그 주기만큼 늦게 반영됨)
+ * - 압축 작업: 보존 기간이 지난 DAY 행을 WEEK/MONTH 행으로 합친 뒤 삭제, 오래된 WEEK 행은 삭제 (MONTH 행은 영구 보관)
+ * - 조회: 요청 구간의 집계 행 + 아직 압축되지 않은 DAY 행만 읽어 합산 (이력 크기와 무관)
+ */
+@Slf4j
+@Service
+public class ActivityRollupService {
+
+    private final ActivityRollupRepository activityRollupRepository;
+    private final int dayRetentionDays;
+    private final int weekRetentionWeeks;
+    private final TransactionTemplate transactionTemplate;
+
+    // 아직 DB에 반영하지 않은 전체 집계 (날짜 → 합계)
+    private final ConcurrentHashMap<LocalDate, Bucket> pendingGlobal = new ConcurrentHashMap<>();
+
+    public ActivityRollupService(ActivityRollupRepository activityRollupRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${statistics.activity.day-retention-days:90}") int dayRetentionDays,
+                                 @Value("${statistics.activity.week-retention-weeks:104}") int weekRetentionWeeks) {
+        this.activityRollupRepository = activityRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.dayRetentionDays = dayRetentionDays;
+        this.weekRetentionWeeks = weekRetentionWeeks;
+    }
+
+    /**
+     * 채점 완료 1건 반영 (호출한 쪽의 트랜잭션에 참여, 제출한 날짜 기준)
+     * 비로그인 제출은 전체 집계에만 반영, 전체 집계는 커밋 후 메모리에 모아 두었다가 주기적으로 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordGraded(SolvedProblem solvedProblem) {
+        LocalDate day = solvedProblem.getSolvedAt().toLocalDate();
+        int correct = Boolean.TRUE.equals(solvedProblem.getIsCorrect()) ? 1 : 0;
+        Integer score = solvedProblem.getScore();
+        int scored = score != null ? 1 : 0;
+        int scoreValue = score != null ? score : 0;
+
+        if (solvedProblem.getUser() != null) {
+            activityRollupRepository.incrementDay(solvedProblem.getUser().getId(), day, correct, scored, scoreValue);
+        }
+        Bucket global = new Bucket(day, 1, correct, scored, scoreValue);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendingGlobal.merge(day, global, Bucket::plus);
+            }
+        });
+    }
+
+    /**
+     * 메모리에 모인 전체 집계를 DB에 반영 (날짜별 1행 갱신)
+     * 반영에 실패하면 다음 주기에 다시 시도하도록 되돌려 둠
+     */
+    @Scheduled(fixedDelayString = "${statistics.activity.global-flush-interval-ms:5000}")
+    public void flushGlobal() {
+        Map<LocalDate, Bucket> drained = new TreeMap<>();
+        for (LocalDate day : pendingGlobal.keySet()) {
+            Bucket bucket = pendingGlobal.remove(day);
+            if (bucket != null) {
+                drained.put(day, bucket);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.values().forEach(bucket ->
+                    activityRollupRepository.addDay(ActivityRollup.GLOBAL_USER_ID, bucket.bucketStart(),
+                            bucket.submissions(), bucket.correct(), bucket.scored(), bucket.scoreSum())));
+        } catch (RuntimeException e) {
+            drained.forEach((day, bucket) -> pendingGlobal.merge(day, bucket, Bucket::plus));
+            log.warn("Global activity flush failed, will retry: days={}, reason={}", drained.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushGlobal();
+    }
+
+    /**
+     * 사용자 활동 조회 (from ~ to, 둘 다 포함)
+     * 활동이 있는 구간만 반환, DAY 단위는 보존 기간 이내만 조회 가능 (그 이전은 WEEK/MONTH로 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<Bucket> getUserActivity(Long userId, LocalDate from, LocalDate to, ActivityGranularity granularity) {
+        return getActivity(userId, from, to, granularity);
+    }
+
+    /**
+     * 사이트 전체 활동 조회
+     */
+    @Transactional(readOnly = true)
+    public List<Bucket> getGlobalActivity(LocalDate from, LocalDate to, ActivityGranularity granularity) {
+        return getActivity(ActivityRollup.GLOBAL_USER_ID, from, to, granularity);
+    }
+
+    /**
+     * 보존 기간이 지난 DAY 행을 WEEK/MONTH 행으로 압축
+     * 기준일을 주 시작일(월요일)에 맞춰 압축되는 주는 항상 7일이 모두 포함되도록 함
+     * 합치기와 삭제를 한 트랜잭션에서 수행하므로 조회 결과(집계 행 + 남은 DAY 행)는 압축 전후로 같음
+     */
+    @Transactional
+    @Scheduled(cron = "${statistics.activity.compaction-cron:0 15 4 * * *}")
+    public void compact() {
+        LocalDate today = LocalDate.now();
+        LocalDate dayCutoff = ActivityGranularity.WEEK.bucketStart(today.minusDays(dayRetentionDays));
+        LocalDate weekCutoff = ActivityGranularity.WEEK.bucketStart(today).minusWeeks(weekRetentionWeeks);
+
+        int weeks = activityRollupRepository.mergeDaysIntoWeeks(dayCutoff);
+        int months = activityRollupRepository.mergeDaysIntoMonths(dayCutoff);
+        int days = activityRollupRepository.deleteBefore(ActivityGranularity.DAY, dayCutoff);
+        int expiredWeeks = activityRollupRepository.deleteBefore(ActivityGranularity.WEEK, weekCutoff);
+
+        if (days > 0 || expiredWeeks > 0) {
+            log.info("Activity rollups compacted: days={}, weekRows={}, monthRows={}, expiredWeeks={}",
+                    days, weeks, months, expiredWeeks);
+        }
+    }
+
+    /**
+     * 사용자 삭제 시 활동 집계 정리 (전체 집계에는 남김)
+     */
+    @Transactional
+    public void deleteUser(Long userId) {
+        activityRollupRepository.deleteByUserId(userId);
+    }
+
+    private List<Bucket> getActivity(Long userId, LocalDate from, LocalDate to, ActivityGranularity granularity) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new RestApiException(ErrorCode.BAD_REQUEST);
+        }
+        LocalDate start = granularity.bucketStart(from);
+
+        // 구간 시작일 → 합계 (압축된 집계 행 + 아직 압축되지 않은 DAY 행)
+        Map<LocalDate, Bucket> buckets = new TreeMap<>();
+        List<ActivityRollup> rows = new ArrayList<>(
+                activityRollupRepository.findRange(userId, ActivityGranularity.DAY, start, to));
+        if (granularity != ActivityGranularity.DAY) {
+            rows.addAll(activityRollupRepository.findRange(userId, granularity, start, to));
+        }
+        for (ActivityRollup row : rows) {
+            LocalDate bucketStart = granularity.bucketStart(row.getBucketStart());
+            buckets.merge(bucketStart, Bucket.of(bucketStart, row), Bucket::plus);
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    /**
+     * 구간 합계 (점수가 없는 기록은 평균 점수에서 제외)
+     */
+    public record Bucket(LocalDate bucketStart, long submissions, long correct, long scored, long scoreSum) {
+
+        static Bucket of(LocalDate bucketStart, ActivityRollup row) {
+            return new Bucket(bucketStart, row.getSubmissions(), row.getCorrectCount(),
+                    row.getScoredCount(), row.getScoreSum());
+        }
+
+        Bucket plus(Bucket other) {
+            return new Bucket(bucketStart, submissions + other.submissions, correct + other.correct,
+                    scored + other.scored, scoreSum + other.scoreSum);
+        }
+
+        public double accuracy() {
+            return submissions > 0 ? (correct * 100.0) / submissions : 0.0;
+        }
+
+        public double averageScore() {
+            return scored > 0 ? (double) scoreSum / scored : 0.0;
+        }
+    }
+}
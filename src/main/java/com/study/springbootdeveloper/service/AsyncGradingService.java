@@ -0,0 +1,174 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.Problem;
+import com.study.springbootdeveloper.domain.SolvedProblem;
+import com.study.springbootdeveloper.dto.response.GradingResultDto;
+import com.study.springbootdeveloper.dto.response.SolvedProblemResponse;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비동기 채점 파이프라인
+ * 제출 기록을 PENDING으로 먼저 저장하고, 채점은 우선순위 채점 스케줄러의 워커에서 처리
+ */
+@Slf4j
+@Service
+public class AsyncGradingService {
+
+    private final SolvingService solvingService;
+    private final GradingScheduler gradingScheduler;
+    private final long streamTimeoutMs;
+
+    public AsyncGradingService(SolvingService solvingService, GradingScheduler gradingScheduler,
+                               @Value("${grading.stream.timeout-ms:120000}") long streamTimeoutMs) {
+        this.solvingService = solvingService;
+        this.gradingScheduler = gradingScheduler;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    /**
+     * 비동기 답안 제출 (자유 선택 모드)
+     * PENDING 기록이 커밋된 뒤 채점 작업을 워커 풀에 등록
+     */
+    public SolvedProblem submit(Long userId, Long problemId, String userAnswer, String guestId) {
+        SolvedProblem pending = solvingService.reserveSubmission(userId, problemId, userAnswer, guestId);
+        Long solvedProblemId = pending.getId();
+        Problem problem = pending.getProblem();
+        GradingScheduler.Lane lane = GradingScheduler.laneOf(pending);
+
+        try {
+            gradingScheduler.execute(lane, () -> gradeAndComplete(solvedProblemId, problem, userAnswer));
+        } catch (RejectedExecutionException e) {
+            log.warn("Grading queue is full, discarding submission: solvedProblemId={}", solvedProblemId);
+            solvingService.discardSubmission(solvedProblemId);
+            throw new RestApiException(ErrorCode.GRADING_QUEUE_FULL);
+        }
+
+        log.info("Async submission queued: solvedProblemId={}, lane={}, queueSize={}",
+                solvedProblemId, lane, gradingScheduler.queueDepth(lane));
+        return pending;
+    }
+
+    /**
+     * 스트리밍 답안 제출 (자유 선택 모드)
+     * PENDING 기록 저장 후 채점 피드백을 SSE로 전달 (token → result 또는 error 이벤트, 폴백 전환 시 reset 후 token 다시 전송)
+     */
+    public SseEmitter submitStreaming(Long userId, Long problemId, String userAnswer, String guestId) {
+        SolvedProblem pending = solvingService.reserveSubmission(userId, problemId, userAnswer, guestId);
+        return stream(pending, userAnswer);
+    }
+
+    /**
+     * 세션 내 스트리밍 답안 제출 (챌린지 모드)
+     */
+    public SseEmitter submitStreamingInSession(Long sessionId, Long problemId, String userAnswer) {
+        SolvedProblem pending = solvingService.reserveSessionSubmission(sessionId, problemId, userAnswer);
+        return stream(pending, userAnswer);
+    }
+
+    /**
+     * 제출 상태 조회 (본인 제출만)
+     */
+    public SolvedProblem getSubmission(Long solvedProblemId, Long requesterId, String guestId) {
+        return solvingService.getOwnSubmission(solvedProblemId, requesterId, guestId);
+    }
+
+    /**
+     * 대기하는 동안 기록이 실패 처리되었거나 재제출로 지워졌으면 채점하지 않음
+     * 결과 반영/실패 처리는 PENDING인 경우에만 적용되므로 워커 밖으로 예외가 나가지 않음
+     */
+    private void gradeAndComplete(Long solvedProblemId, Problem problem, String userAnswer) {
+        try {
+            if (!solvingService.isPending(solvedProblemId)) {
+                log.info("Skipping grading, submission is no longer pending: solvedProblemId={}", solvedProblemId);
+                return;
+            }
+            GradingResultDto gradingResult = solvingService.grade(problem, userAnswer);
+            solvingService.completeSubmission(solvedProblemId, gradingResult);
+        } catch (Exception e) {
+            log.error("Async grading failed: solvedProblemId={}", solvedProblemId, e);
+            failQuietly(solvedProblemId, "채점 중 오류가 발생했습니다. 다시 시도해주세요.");
+        }
+    }
+
+    private void failQuietly(Long solvedProblemId, String reason) {
+        try {
+            solvingService.failSubmission(solvedProblemId, reason);
+        } catch (Exception e) {
+            log.error("Failed to mark submission as failed: solvedProblemId={}", solvedProblemId, e);
+        }
+    }
+
+    private SseEmitter stream(SolvedProblem pending, String userAnswer) {
+        Long solvedProblemId = pending.getId();
+        Problem problem = pending.getProblem();
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+
+        // 핸들러 반환 전 전송분은 버퍼링되므로 채점 토큰보다 먼저 전달됨
+        send(emitter, "accepted", Map.of("submissionId", solvedProblemId), new AtomicBoolean(true));
+
+        try {
+            gradingScheduler.execute(GradingScheduler.laneOf(pending), () -> streamAndComplete(solvedProblemId, problem, userAnswer, emitter));
+        } catch (RejectedExecutionException e) {
+            log.warn("Grading queue is full, discarding submission: solvedProblemId={}", solvedProblemId);
+            solvingService.discardSubmission(solvedProblemId);
+            throw new RestApiException(ErrorCode.GRADING_QUEUE_FULL);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 채점 피드백 조각을 전달하고, 완료되면 결과를 저장한 뒤 최종 결과 전달
+     * 클라이언트 연결이 끊겨도 채점과 저장은 끝까지 진행 (상태 조회 API로 확인 가능)
+     */
+    private void streamAndComplete(Long solvedProblemId, Problem problem, String userAnswer, SseEmitter emitter) {
+        AtomicBoolean connected = new AtomicBoolean(true);
+        String reason = "채점 중 오류가 발생했습니다. 다시 시도해주세요.";
+        try {
+            if (!solvingService.isPending(solvedProblemId)) {
+                log.info("Skipping grading, submission is no longer pending: solvedProblemId={}", solvedProblemId);
+                send(emitter, "error", Map.of("message", reason), connected);
+                return;
+            }
+            GradingResultDto gradingResult = solvingService.gradeStreaming(problem, userAnswer,
+                    token -> send(emitter, "token", Map.of("text", token), connected),
+                    () -> send(emitter, "reset", Map.of(), connected));
+            Optional<SolvedProblem> completed = solvingService.completeSubmission(solvedProblemId, gradingResult);
+            if (completed.isPresent()) {
+                send(emitter, "result", SolvedProblemResponse.from(completed.get()), connected);
+            } else {
+                send(emitter, "error", Map.of("message", reason), connected);
+            }
+        } catch (Exception e) {
+            log.error("Streaming grading failed: solvedProblemId={}", solvedProblemId, e);
+            failQuietly(solvedProblemId, reason);
+            send(emitter, "error", Map.of("message", reason), connected);
+        } finally {
+            emitter.complete();
+        }
+    }
+
+    private static void send(SseEmitter emitter, String eventName, Object data, AtomicBoolean connected) {
+        if (!connected.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            connected.set(false);
+            log.debug("SSE client disconnected: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.ChoiceExplanation;
+import com.study.springbootdeveloper.domain.Problem;
+import com.study.springbootdeveloper.event.ProblemChangedEvent;
+import com.study.springbootdeveloper.repository.ChoiceExplanationRepository;
+import com.study.springbootdeveloper.repository.ProblemRepository;
+import com.study.springbootdeveloper.type.ProblemType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 객관식 선택지별 보충 설명 저장소
+ * 설명은 (문제, 선택지, 정답 여부)에만 의존하므로 선택지마다 한 번만 생성해 두고 제출 시에는 조회만 함
+ * 생성은 백그라운드 작업(주기적 채우기, 문제 등록/수정 시 갱신)에서만 수행
+ */
+@Slf4j
+@Service
+public class ChoiceExplanationService {
+
+    private final ChoiceExplanationRepository choiceExplanationRepository;
+    private final ProblemRepository problemRepository;
+    private final GeminiApiService geminiApiService;
+    private final int maxGenerationsPerRun;
+
+    // 생성/삭제는 단일 스레드에서 순서대로 처리 (같은 선택지 중복 생성 방지)
+    private final ExecutorService refreshExecutor;
+    private final Set<Long> pendingProblems = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fillPending = new AtomicBoolean(false);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder generationFailures = new LongAdder();
+
+    public ChoiceExplanationService(ChoiceExplanationRepository choiceExplanationRepository,
+                                    ProblemRepository problemRepository,
+                                    GeminiApiService geminiApiService,
+                                    @Value("${grading.explanation.max-generations-per-run:100}") int maxGenerationsPerRun) {
+        this.choiceExplanationRepository = choiceExplanationRepository;
+        this.problemRepository = problemRepository;
+        this.geminiApiService = geminiApiService;
+        this.maxGenerationsPerRun = maxGenerationsPerRun;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "explanation-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 제출된 선택지의 보충 설명 조회
+     * 저장된 설명이 없거나 문제 내용이 바뀌었으면 기본 해설을 반환하고 백그라운드 생성 요청
+     */
+    public String getExplanation(Problem problem, String userAnswer) {
+        Optional<ChoiceExplanation> stored = choiceExplanationRepository
+                .findByProblemIdAndChoiceHash(problem.getId(), choiceHash(userAnswer));
+
+        if (stored.isPresent() && stored.get().getProblemHash().equals(problemHash(problem))) {
+            hits.increment();
+            return stored.get().getExplanation();
+        }
+
+        misses.increment();
+        if (isChoiceOf(problem, userAnswer)) {
+            requestRefresh(problem.getId());
+        }
+        return problem.getExplanation();
+    }
+
+    /**
+     * 주기적으로 모든 객관식 문제의 누락/만료된 설명 채우기
+     */
+    @Scheduled(initialDelayString = "${grading.explanation.initial-delay-ms:30000}",
+            fixedDelayString = "${grading.explanation.refresh-interval-ms:600000}")
+    public void scheduleFill() {
+        if (!geminiApiService.isConfigured() || !fillPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    fillAll();
+                } finally {
+                    fillPending.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fillPending.set(false);
+        }
+    }
+
+    /**
+     * 문제 등록/수정/삭제 커밋 이후 해당 문제의 설명 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        requestRefresh(event.problemId());
+    }
+
+    public Stats stats() {
+        return new Stats(choiceExplanationRepository.count(), hits.sum(), misses.sum(),
+                generated.sum(), generationFailures.sum(), pendingProblems.size());
+    }
+
+    private void requestRefresh(Long problemId) {
+        if (!pendingProblems.add(problemId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                pendingProblems.remove(problemId);
+                refreshProblem(problemId);
+            });
+        } catch (RejectedExecutionException e) {
+            pendingProblems.remove(problemId);
+        }
+    }
+
+    private void refreshProblem(Long problemId) {
+        try {
+            Optional<Problem> problem = problemRepository.findById(problemId);
+            if (problem.isEmpty() || problem.get().getProblemType() != ProblemType.MULTIPLE_CHOICE) {
+                int removed = choiceExplanationRepository.deleteByProblemId(problemId);
+                if (removed > 0) {
+                    log.info("Choice explanations removed: problemId={}, removed={}", problemId, removed);
+                }
+                return;
+            }
+            if (geminiApiService.isConfigured()) {
+                fill(problem.get(), Integer.MAX_VALUE);
+            }
+        } catch (Exception e) {
+            log.warn("Choice explanation refresh failed: problemId={}, reason={}", problemId, e.getMessage());
+        }
+    }
+
+    private void fillAll() {
+        int budget = maxGenerationsPerRun;
+        int total = 0;
+        try {
+            for (Problem problem : problemRepository.findByProblemType(ProblemType.MULTIPLE_CHOICE)) {
+                if (total >= budget) {
+                    break;
+                }
+                total += fill(problem, budget - total);
+            }
+        } catch (Exception e) {
+            // Gemini 장애(서킷 차단 등) 시 이번 실행은 중단하고 다음 주기에 이어서 채움
+            log.warn("Choice explanation fill stopped: generated={}, reason={}", total, e.getMessage());
+            return;
+        }
+
+        if (total > 0) {
+            log.info("Choice explanations generated: count={}", total);
+        }
+    }
+
+    /**
+     * 문제 하나의 선택지별 설명 생성 (누락/만료된 것만, 최대 budget건), 생성 건수 반환
+     */
+    private int fill(Problem problem, int budget) {
+        List<String> choices = problem.getChoicesAsList();
+        if (choices == null) {
+            return 0;
+        }
+
+        String problemHash = problemHash(problem);
+        Map<String, ChoiceExplanation> existing = new HashMap<>();
+        for (ChoiceExplanation row : choiceExplanationRepository.findByProblemId(problem.getId())) {
+            existing.put(row.getChoiceHash(), row);
+        }
+
+        int count = 0;
+        Map<String, String> currentChoices = new HashMap<>();
+        for (String choice : choices) {
+            currentChoices.putIfAbsent(choiceHash(choice), choice);
+        }
+
+        for (Map.Entry<String, String> entry : currentChoices.entrySet()) {
+            ChoiceExplanation row = existing.get(entry.getKey());
+            if (row != null && row.getProblemHash().equals(problemHash)) {
+                continue;
+            }
+            if (count >= budget) {
+                break;
+            }
+
+            String choice = entry.getValue();
+            boolean isCorrect = problem.getAnswer().trim().equalsIgnoreCase(choice.trim());
+            String explanation;
+            try {
+                explanation = geminiApiService.requestExplanation(problem, choice, isCorrect);
+            } catch (RuntimeException e) {
+                generationFailures.increment();
+                throw e;
+            }
+
+            if (row == null) {
+                row = ChoiceExplanation.builder()
+                        .problemId(problem.getId())
+                        .choiceHash(entry.getKey())
+                        .choiceText(choice)
+                        .isCorrect(isCorrect)
+                        .problemHash(problemHash)
+                        .explanation(explanation)
+                        .generatedAt(LocalDateTime.now())
+                        .build();
+            } else {
+                row.refresh(choice, isCorrect, problemHash, explanation);
+            }
+            choiceExplanationRepository.save(row);
+            generated.increment();
+            count++;
+        }
+
+        // 선택지 목록에서 빠진 설명 삭제
+        List<Long> removedIds = new ArrayList<>();
+        existing.forEach((hash, row) -> {
+            if (!currentChoices.containsKey(hash)) {
+                removedIds.add(row.getId());
+            }
+        });
+        if (!removedIds.isEmpty()) {
+            choiceExplanationRepository.deleteByIdIn(removedIds);
+        }
+
+        return count;
+    }
+
+    static boolean isChoiceOf(Problem problem, String userAnswer) {
+        List<String> choices = problem.getChoicesAsList();
+        return choices != null && choices.stream().anyMatch(choice -> choice.trim().equalsIgnoreCase(userAnswer.trim()));
+    }
+
+    // 채점과 같은 기준(앞뒤 공백 제거, 대소문자 무시)으로 선택지 식별
+    static String choiceHash(String choice) {
+        return sha256(choice.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String problemHash(Problem problem) {
+        return sha256(String.join("\u0000",
+                problem.getQuestion(),
+                problem.getAnswer(),
+                problem.getExplanation() != null ? problem.getExplanation() : ""));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record Stats(long stored, long hits, long misses, long generated, long generationFailures,
+                        int pendingRefreshes) {
+    }
+}
@@ -0,0 +1,269 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.repository.ProblemRepository;
+import com.study.springbootdeveloper.repository.UserRepository;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 관리자 대시보드 집계 스냅샷 (문제 수: 카테고리×난이도, 사용자 수: 역할별)
+ * - 조회는 불변 스냅샷을 그대로 읽음 (DB 조회 없음)
+ * - 문제/사용자 생성·수정·삭제는 커밋 이후 스냅샷을 복사해 증감 후 교체 (쓰기는 드물어 복사 비용 무시)
+ * - 기동 시와 주기적으로 DB 그룹 집계 2건으로 다시 맞춤, 집계 도중 쓰기가 있었으면 이번 보정은 건너뜀
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final ProblemRepository problemRepository;
+    private final UserRepository userRepository;
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+    private final AtomicLong writes = new AtomicLong();
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder reconciles = new LongAdder();
+    private final LongAdder corrections = new LongAdder();
+
+    public DashboardSnapshotService(ProblemRepository problemRepository, UserRepository userRepository) {
+        this.problemRepository = problemRepository;
+        this.userRepository = userRepository;
+    }
+
+    public Snapshot snapshot() {
+        reads.increment();
+        return snapshot;
+    }
+
+    // ==================== 쓰기 반영 (커밋 이후) ====================
+
+    public void problemCreated(Category category, DifficultyType difficulty) {
+        afterCommit(() -> apply(next -> next.problems[category.ordinal()][difficulty.ordinal()]++));
+    }
+
+    public void problemDeleted(Category category, DifficultyType difficulty) {
+        afterCommit(() -> apply(next -> next.problems[category.ordinal()][difficulty.ordinal()]--));
+    }
+
+    /**
+     * 문제 수정으로 카테고리/난이도가 바뀐 경우
+     */
+    public void problemMoved(Category fromCategory, DifficultyType fromDifficulty,
+                             Category toCategory, DifficultyType toDifficulty) {
+        if (fromCategory == toCategory && fromDifficulty == toDifficulty) {
+            return;
+        }
+        afterCommit(() -> apply(next -> {
+            next.problems[fromCategory.ordinal()][fromDifficulty.ordinal()]--;
+            next.problems[toCategory.ordinal()][toDifficulty.ordinal()]++;
+        }));
+    }
+
+    public void userCreated(UserRole role) {
+        afterCommit(() -> apply(next -> next.users[role.ordinal()]++));
+    }
+
+    public void userDeleted(UserRole role) {
+        afterCommit(() -> apply(next -> next.users[role.ordinal()]--));
+    }
+
+    // ==================== 보정 ====================
+
+    /**
+     * DB 집계로 스냅샷 보정 (집계 도중 다른 쓰기가 반영되면 다시 시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${dashboard.reconcile-interval-ms:600000}",
+            initialDelayString = "${dashboard.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+            long writesBefore = writes.get();
+            Snapshot loaded = load();
+
+            synchronized (this) {
+                if (writes.get() != writesBefore) {
+                    continue;
+                }
+                if (!loaded.sameCounts(snapshot)) {
+                    corrections.increment();
+                    log.info("Dashboard snapshot corrected: problems {} -> {}, users {} -> {}",
+                            snapshot.totalProblems(), loaded.totalProblems(), snapshot.totalUsers(), loaded.totalUsers());
+                }
+                snapshot = loaded;
+            }
+            reconciles.increment();
+            return;
+        }
+        log.warn("Dashboard snapshot reconcile skipped: concurrent writes during {} attempts", MAX_RECONCILE_ATTEMPTS);
+    }
+
+    public Stats stats() {
+        return new Stats(reads.sum(), writes.get(), reconciles.sum(), corrections.sum(), snapshot.reconciledAt());
+    }
+
+    private Snapshot load() {
+        Snapshot loaded = Snapshot.empty();
+        for (ProblemRepository.ProblemCount row : problemRepository.countGroupByCategoryAndDifficulty()) {
+            if (row.getCategory() != null && row.getDifficulty() != null) {
+                loaded.problems[row.getCategory().ordinal()][row.getDifficulty().ordinal()] = row.getProblemCount();
+            }
+        }
+        for (UserRepository.RoleCount row : userRepository.countGroupByRole()) {
+            if (row.getRole() != null) {
+                loaded.users[row.getRole().ordinal()] = row.getUserCount();
+            }
+        }
+        return loaded.withReconciledAt(LocalDateTime.now());
+    }
+
+    private synchronized void apply(Consumer<Snapshot> change) {
+        Snapshot next = snapshot.copy();
+        change.accept(next);
+        snapshot = next;
+        writes.incrementAndGet();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에만 반영 (롤백된 쓰기는 반영하지 않음)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 대시보드 집계 값 (교체 후에는 수정하지 않음)
+     */
+    public static final class Snapshot {
+
+        private final long[][] problems;
+        private final long[] users;
+        private final LocalDateTime reconciledAt;
+
+        private Snapshot(long[][] problems, long[] users, LocalDateTime reconciledAt) {
+            this.problems = problems;
+            this.users = users;
+            this.reconciledAt = reconciledAt;
+        }
+
+        static Snapshot empty() {
+            return new Snapshot(new long[Category.values().length][DifficultyType.values().length],
+                    new long[UserRole.values().length], null);
+        }
+
+        public long totalProblems() {
+            long total = 0;
+            for (long[] row : problems) {
+                for (long count : row) {
+                    total += count;
+                }
+            }
+            return total;
+        }
+
+        public long problemCount(Category category, DifficultyType difficulty) {
+            return problems[category.ordinal()][difficulty.ordinal()];
+        }
+
+        public Map<String, Long> problemsByCategory() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (Category category : Category.values()) {
+                long count = 0;
+                for (long value : problems[category.ordinal()]) {
+                    count += value;
+                }
+                counts.put(category.name(), count);
+            }
+            return counts;
+        }
+
+        public Map<String, Long> problemsByDifficulty() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (DifficultyType difficulty : DifficultyType.values()) {
+                long count = 0;
+                for (long[] row : problems) {
+                    count += row[difficulty.ordinal()];
+                }
+                counts.put(difficulty.name(), count);
+            }
+            return counts;
+        }
+
+        public Map<String, Map<String, Long>> problemsByCategoryAndDifficulty() {
+            Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+            for (Category category : Category.values()) {
+                Map<String, Long> byDifficulty = new LinkedHashMap<>();
+                for (DifficultyType difficulty : DifficultyType.values()) {
+                    byDifficulty.put(difficulty.name(), problemCount(category, difficulty));
+                }
+                counts.put(category.name(), byDifficulty);
+            }
+            return counts;
+        }
+
+        public long totalUsers() {
+            long total = 0;
+            for (long count : users) {
+                total += count;
+            }
+            return total;
+        }
+
+        public long userCount(UserRole role) {
+            return users[role.ordinal()];
+        }
+
+        public LocalDateTime reconciledAt() {
+            return reconciledAt;
+        }
+
+        Snapshot copy() {
+            long[][] problemsCopy = new long[problems.length][];
+            for (int i = 0; i < problems.length; i++) {
+                problemsCopy[i] = problems[i].clone();
+            }
+            return new Snapshot(problemsCopy, users.clone(), reconciledAt);
+        }
+
+        Snapshot withReconciledAt(LocalDateTime time) {
+            return new Snapshot(problems, users, time);
+        }
+
+        boolean sameCounts(Snapshot other) {
+            return Arrays.deepEquals(problems, other.problems) && Arrays.equals(users, other.users);
+        }
+    }
+
+    /**
+     * @param writes      스냅샷에 반영된 문제/사용자 쓰기 수
+     * @param corrections 보정 시 DB 값과 달라 교정한 횟수
+     */
+    public record Stats(long reads, long writes, long reconciles, long corrections, LocalDateTime reconciledAt) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.type.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gemini 동시 호출 수 제한 (세마포어 벌크헤드)
+ * 한도를 넘는 호출은 짧게 대기한 뒤 거절하여 요청 스레드가 Gemini 지연에 묶이지 않도록 함
+ */
+@Component
+public class GeminiBulkhead {
+
+    private final int maxConcurrentCalls;
+    private final long maxWaitMs;
+    private final Semaphore permits;
+
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public GeminiBulkhead(@Value("${gemini.resilience.bulkhead.max-concurrent-calls:8}") int maxConcurrentCalls,
+                          @Value("${gemini.resilience.bulkhead.max-wait-ms:200}") long maxWaitMs) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMs = maxWaitMs;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    /**
+     * 호출 슬롯 획득 (한도 초과 시 GEMINI_BULKHEAD_FULL 예외), 사용 후 release() 필수
+     */
+    public void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw new RestApiException(ErrorCode.GEMINI_BULKHEAD_FULL);
+        }
+    }
+
+    /**
+     * 남는 슬롯이 있을 때만 대기 없이 획득 (헤지 요청용, 대기 중인 호출보다 먼저 가져가지 않음)
+     */
+    public boolean tryAcquireSpare() {
+        return !permits.hasQueuedThreads() && permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public Stats stats() {
+        return new Stats(maxConcurrentCalls, maxConcurrentCalls - permits.availablePermits(), rejectedCalls.sum());
+    }
+
+    public record Stats(int maxConcurrentCalls, int inFlightCalls, long rejectedCalls) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 호출 서킷 브레이커
+ * 최근 N건의 호출 중 실패율 또는 지연 호출 비율이 임계치를 넘으면 OPEN 상태로 전환하여
+ * 일정 시간 동안 호출 없이 즉시 실패시킴 (호출 측은 기존 폴백 채점/기본 해설 사용)
+ */
+@Slf4j
+@Component
+public class GeminiCircuitBreaker {
+
+    public enum State {
+        CLOSED,     // 정상 호출
+        OPEN,       // 즉시 실패
+        HALF_OPEN   // 시험 호출로 복구 여부 확인
+    }
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final long openDurationNanos;
+    private final int halfOpenPermittedCalls;
+
+    // 최근 windowSize건의 호출 결과 (링 버퍼, FAILURE/SLOW 비트 조합)
+    private final byte[] outcomes;
+    private int cursor;
+    private int bufferedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    // 상태 전환마다 증가, 호출 허용 시 발급해 결과 기록 때 이전 상태에서 시작된 호출을 구분
+    private long generation;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    private long notPermittedCalls;
+    private long openTransitions;
+
+    public GeminiCircuitBreaker(@Value("${gemini.resilience.circuit-breaker.window-size:20}") int windowSize,
+                                @Value("${gemini.resilience.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                @Value("${gemini.resilience.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                                @Value("${gemini.resilience.circuit-breaker.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+                                @Value("${gemini.resilience.circuit-breaker.slow-call-duration-ms:10000}") long slowCallDurationMs,
+                                @Value("${gemini.resilience.circuit-breaker.open-duration-seconds:30}") long openDurationSeconds,
+                                @Value("${gemini.resilience.circuit-breaker.half-open-calls:3}") int halfOpenPermittedCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold / 100.0;
+        this.slowCallRateThreshold = slowCallRateThreshold / 100.0;
+        this.slowCallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowCallDurationMs);
+        this.openDurationNanos = TimeUnit.SECONDS.toNanos(openDurationSeconds);
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.outcomes = new byte[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 확인 (차단 시 GEMINI_CIRCUIT_OPEN 예외)
+     * 허용된 호출은 반환된 permit과 함께 반드시 onSuccess/onError 중 하나로 결과를 기록해야 함
+     */
+    public synchronized long acquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        boolean permitted = switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> halfOpenInFlight + halfOpenSucceeded < halfOpenPermittedCalls;
+        };
+
+        if (!permitted) {
+            notPermittedCalls++;
+            throw new RestApiException(ErrorCode.GEMINI_CIRCUIT_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight++;
+        }
+        return generation;
+    }
+
+    public synchronized void onSuccess(long permit, long durationNanos) {
+        record(permit, durationNanos >= slowCallThresholdNanos ? SLOW : 0);
+    }
+
+    public synchronized void onError(long permit, long durationNanos) {
+        record(permit, (byte) (FAILURE | (durationNanos >= slowCallThresholdNanos ? SLOW : 0)));
+    }
+
+    private void record(long permit, byte outcome) {
+        if (permit != generation) {
+            // 이전 상태에서 시작된 호출의 늦은 결과는 무시 (CLOSED 때 시작된 호출이 HALF_OPEN 시험 호출로 집계되지 않도록)
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            if (outcome != 0) {
+                // 시험 호출이 하나라도 실패/지연되면 다시 차단
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenPermittedCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        if (bufferedCalls == windowSize) {
+            byte evicted = outcomes[cursor];
+            failedCalls -= evicted & FAILURE;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            bufferedCalls++;
+        }
+        outcomes[cursor] = outcome;
+        cursor = (cursor + 1) % windowSize;
+        failedCalls += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        if (bufferedCalls >= minimumCalls
+                && (failureRate() >= failureRateThreshold || slowCallRate() >= slowCallRateThreshold)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Gemini 서킷 브레이커 상태 변경: {} → {} (실패율={}%, 지연 호출 비율={}%)",
+                state, next, Math.round(failureRate() * 100), Math.round(slowCallRate() * 100));
+        state = next;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+            openTransitions++;
+        } else if (next == State.CLOSED) {
+            resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        cursor = 0;
+        bufferedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+    }
+
+    private double failureRate() {
+        return bufferedCalls == 0 ? 0.0 : (double) failedCalls / bufferedCalls;
+    }
+
+    private double slowCallRate() {
+        return bufferedCalls == 0 ? 0.0 : (double) slowCalls / bufferedCalls;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(state, bufferedCalls, failedCalls, slowCalls,
+                failureRate(), slowCallRate(), notPermittedCalls, openTransitions);
+    }
+
+    public record Stats(State state, int bufferedCalls, int failedCalls, int slowCalls,
+                        double failureRate, double slowCallRate,
+                        long notPermittedCalls, long openTransitions) {
+    }
+}
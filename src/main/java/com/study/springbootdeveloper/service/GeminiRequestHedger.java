@@ -0,0 +1,258 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.type.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 헤지 요청 (tail latency 완화)
+ * - 최근 응답 시간의 percentile 안에 응답이 오지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용
+ * - 늦은 쪽은 취소(스레드 인터럽트)
+ * - 헤지 요청 수는 전체 호출 대비 max-hedge-percent 이내 (호출마다 적립되는 예산에서 차감)
+ * - 헤지 요청은 벌크헤드에 남는 슬롯이 있을 때만 전송
+ */
+@Slf4j
+@Component
+public class GeminiRequestHedger {
+
+    private static final long CREDIT_UNIT = 100;   // 헤지 1건 = 100 (percent 단위 적립)
+    private static final long MAX_CREDIT = CREDIT_UNIT * 10;
+
+    private final boolean enabled;
+    private final int percentile;
+    private final long minDelayNanos;
+    private final int maxHedgePercent;
+    private final int minSamples;
+
+    private final GeminiBulkhead bulkhead;
+    private final LatencyWindow latencies;
+    private final ExecutorService executor;
+
+    private final AtomicLong hedgeCredit = new AtomicLong();
+    private volatile long hedgeDelayNanos = -1;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetDenied = new LongAdder();
+
+    public GeminiRequestHedger(GeminiBulkhead bulkhead,
+                               @Value("${gemini.hedging.enabled:false}") boolean enabled,
+                               @Value("${gemini.hedging.percentile:95}") int percentile,
+                               @Value("${gemini.hedging.min-delay-ms:500}") long minDelayMs,
+                               @Value("${gemini.hedging.max-hedge-percent:10}") int maxHedgePercent,
+                               @Value("${gemini.hedging.window-size:200}") int windowSize,
+                               @Value("${gemini.hedging.min-samples:50}") int minSamples) {
+        this.bulkhead = bulkhead;
+        this.enabled = enabled;
+        this.percentile = Math.max(1, Math.min(99, percentile));
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.maxHedgePercent = Math.max(0, maxHedgePercent);
+        this.minSamples = minSamples;
+        this.latencies = new LatencyWindow(windowSize);
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "gemini-hedge-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 요청 실행 (비활성화 시 호출 스레드에서 그대로 실행)
+     */
+    public String call(Supplier<String> request) {
+        if (!enabled) {
+            return request.get();
+        }
+
+        calls.increment();
+        hedgeCredit.updateAndGet(credit -> Math.min(MAX_CREDIT, credit + maxHedgePercent));
+
+        CompletableFuture<Winner> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        long start = System.nanoTime();
+        Future<?> primary = executor.submit(() -> attempt(request, false, start, result, pending));
+        HedgeAttempt hedge = null;
+
+        try {
+            long delay = hedgeDelayNanos;
+            if (delay > 0) {
+                try {
+                    return unwrap(result.get(delay, TimeUnit.NANOSECONDS), start);
+                } catch (TimeoutException e) {
+                    hedge = startHedge(request, result, pending);
+                }
+            }
+            return unwrap(result.get(), start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestApiException(ErrorCode.GEMINI_API_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RestApiException(ErrorCode.GEMINI_API_ERROR);
+        } finally {
+            // 늦은 쪽(또는 인터럽트된 호출자의 요청) 취소
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.task().cancel(true);
+                releasePermit(hedge.permitHeld());
+            }
+        }
+    }
+
+    private HedgeAttempt startHedge(Supplier<String> request, CompletableFuture<Winner> result, AtomicInteger pending) {
+        if (result.isDone()) {
+            return null;
+        }
+        if (!tryTakeCredit()) {
+            budgetDenied.increment();
+            return null;
+        }
+        if (!bulkhead.tryAcquireSpare()) {
+            hedgeCredit.addAndGet(CREDIT_UNIT);
+            budgetDenied.increment();
+            return null;
+        }
+
+        hedges.increment();
+        pending.incrementAndGet();
+        long hedgeStart = System.nanoTime();
+        AtomicBoolean permitHeld = new AtomicBoolean(true);
+        Future<?> task = executor.submit(() -> {
+            try {
+                attempt(request, true, hedgeStart, result, pending);
+            } finally {
+                releasePermit(permitHeld);
+            }
+        });
+        return new HedgeAttempt(task, permitHeld);
+    }
+
+    private void releasePermit(AtomicBoolean permitHeld) {
+        if (permitHeld.compareAndSet(true, false)) {
+            bulkhead.release();
+        }
+    }
+
+    private void attempt(Supplier<String> request, boolean hedge, long start, CompletableFuture<Winner> result,
+                         AtomicInteger pending) {
+        try {
+            String value = request.get();
+            if (result.complete(new Winner(value, hedge)) && !hedge) {
+                record(System.nanoTime() - start);
+            }
+        } catch (RuntimeException e) {
+            // 둘 다 실패했을 때만 실패로 처리
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private String unwrap(Winner winner, long start) {
+        if (winner.hedge()) {
+            hedgeWins.increment();
+            // 취소되는 원 요청은 최소한 지금까지의 시간만큼 걸렸으므로 그 값으로 기록 (분포가 짧게 치우치지 않도록)
+            record(System.nanoTime() - start);
+        }
+        return winner.value();
+    }
+
+    private boolean tryTakeCredit() {
+        while (true) {
+            long credit = hedgeCredit.get();
+            if (credit < CREDIT_UNIT) {
+                return false;
+            }
+            if (hedgeCredit.compareAndSet(credit, credit - CREDIT_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private void record(long nanos) {
+        long count = latencies.add(nanos);
+        if (count >= minSamples && count % 10 == 0) {
+            hedgeDelayNanos = Math.max(minDelayNanos, latencies.percentile(percentile));
+        }
+    }
+
+    public Stats stats() {
+        long total = calls.sum();
+        long hedged = hedges.sum();
+        long delay = hedgeDelayNanos;
+        return new Stats(enabled, total, hedged, hedgeWins.sum(), budgetDenied.sum(),
+                total == 0 ? 0.0 : (double) hedged / total,
+                delay > 0 ? TimeUnit.NANOSECONDS.toMillis(delay) : -1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Winner(String value, boolean hedge) {
+    }
+
+    /**
+     * 시작 전에 취소된 헤지 작업은 finally가 실행되지 않으므로 취소하는 쪽에서도 슬롯 반환 (한 번만)
+     */
+    private record HedgeAttempt(Future<?> task, AtomicBoolean permitHeld) {
+    }
+
+    public record Stats(boolean enabled, long calls, long hedges, long hedgeWins, long budgetDenied,
+                        double hedgeRate, long hedgeDelayMs) {
+    }
+
+    /**
+     * 최근 응답 시간 (고정 크기 링 버퍼)
+     */
+    private static class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private long count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[Math.max(10, size)];
+        }
+
+        /**
+         * @return 지금까지 기록된 총 샘플 수
+         */
+        synchronized long add(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            return ++count;
+        }
+
+        synchronized long percentile(int percentile) {
+            int size = (int) Math.min(count, samples.length);
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return sorted[Math.max(0, Math.min(size - 1, index))];
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.study.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Gemini 응답 파서 (Jackson 스트리밍 파서 사용)
+ * - generateContent 응답 본문에서 필요한 text 필드만 읽고 나머지는 건너뜀 (Map 변환 없음)
+ * - JSON 응답 모드로 받은 채점 결과를 타입이 있는 레코드로 변환
+ * - 채점 결과 형식이 맞지 않으면 파싱 실패로 따로 집계 (Gemini 호출 실패와 구분)
+ */
+@Slf4j
+@Component
+public class GeminiResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    private final LongAdder parsed = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+
+    public GeminiResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * generateContent 응답에서 첫 번째 후보의 text 조각을 이어 붙여 반환 (없으면 빈 문자열)
+     */
+    public String readText(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return readCandidateText(parser);
+        }
+    }
+
+    public String readText(String body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return readCandidateText(parser);
+        }
+    }
+
+    /**
+     * 단건 채점 응답 파싱 ({"judgement", "score", "feedback"})
+     */
+    public GradedAnswer parseGrading(String text) {
+        try (JsonParser parser = jsonFactory.createParser(text)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            GradedAnswer answer = readGradedAnswer(parser);
+            parsed.increment();
+            return answer;
+        } catch (IOException e) {
+            throw parseFailure("채점 응답 파싱 실패", text, e);
+        }
+    }
+
+    /**
+     * 배치 채점 응답 파싱 ([{"id", "judgement", "score", "feedback"}, ...])
+     */
+    public List<GradedAnswer> parseBatchGrading(String text) {
+        try (JsonParser parser = jsonFactory.createParser(text)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            List<GradedAnswer> answers = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                expect(parser, token, JsonToken.START_OBJECT);
+                answers.add(readGradedAnswer(parser));
+            }
+            parsed.increment();
+            return answers;
+        } catch (IOException e) {
+            throw parseFailure("배치 채점 응답 파싱 실패", text, e);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(parsed.sum(), parseFailures.sum());
+    }
+
+    private RestApiException parseFailure(String message, String text, IOException e) {
+        parseFailures.increment();
+        log.warn("{}: {} (응답 앞부분: {})", message, e.getOriginalMessage(),
+                text.length() > 200 ? text.substring(0, 200) : text);
+        return new RestApiException(ErrorCode.GEMINI_RESPONSE_INVALID);
+    }
+
+    /**
+     * candidates[0].content.parts[*].text
+     */
+    private String readCandidateText(JsonParser parser) throws IOException {
+        StringBuilder text = new StringBuilder();
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("candidates".equals(field) && value == JsonToken.START_ARRAY) {
+                JsonToken element = parser.nextToken();
+                if (element == JsonToken.START_OBJECT) {
+                    readCandidate(parser, text);
+                    // 나머지 후보는 사용하지 않음
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        parser.skipChildren();
+                    }
+                } else if (element != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "candidates 항목이 객체가 아닙니다.");
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return text.toString();
+    }
+
+    private void readCandidate(JsonParser parser, StringBuilder text) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("content".equals(field) && value == JsonToken.START_OBJECT) {
+                readContent(parser, text);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readContent(JsonParser parser, StringBuilder text) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("parts".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String partField = parser.currentName();
+                        if (parser.nextToken() == JsonToken.VALUE_STRING && "text".equals(partField)) {
+                            text.append(parser.getText());
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * START_OBJECT 다음부터 END_OBJECT까지 읽어 채점 결과로 변환 (모르는 필드는 무시)
+     */
+    private GradedAnswer readGradedAnswer(JsonParser parser) throws IOException {
+        int id = 0;
+        String judgement = null;
+        Integer score = null;
+        String feedback = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsInt(0);
+                case "judgement" -> judgement = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "score" -> score = value.isNumeric() ? Integer.valueOf(parser.getValueAsInt()) : null;
+                case "feedback" -> feedback = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (judgement == null || score == null || feedback == null) {
+            throw new JsonParseException(parser, "필수 필드(judgement, score, feedback)가 없습니다.");
+        }
+        return new GradedAnswer(id, judgement.trim(), Math.max(0, Math.min(100, score)), feedback.trim());
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, expected + " 이 필요하지만 " + actual + " 을 읽었습니다.");
+        }
+    }
+
+    /**
+     * JSON 응답 모드 채점 결과 (단건 응답은 id = 0)
+     */
+    public record GradedAnswer(int id, String judgement, int score, String feedback) {
+    }
+
+    public record Stats(long parsed, long parseFailures) {
+    }
+
+    /**
+     * 스트리밍으로 들어오는 JSON 조각에서 특정 문자열 필드 값만 골라 받는 즉시 전달
+     * (완성된 토큰만 내보내는 Jackson 파서로는 값이 끝나기 전까지 한 글자도 얻을 수 없어 직접 해석)
+     * 응답 전체 파싱은 스트림이 끝난 뒤 parseGrading으로 따로 수행
+     */
+    public static class StringFieldStreamer implements Consumer<String> {
+
+        private enum State { SEEK_FIELD, IN_VALUE, DONE }
+
+        private final String fieldPrefix;
+        private final Consumer<String> onValueChunk;
+
+        private final StringBuilder pending = new StringBuilder();
+        private State state = State.SEEK_FIELD;
+        private boolean escaped;
+        private StringBuilder unicode;
+        private boolean emitted;
+
+        public StringFieldStreamer(String field, Consumer<String> onValueChunk) {
+            this.fieldPrefix = "\"" + field + "\"";
+            this.onValueChunk = onValueChunk;
+        }
+
+        @Override
+        public void accept(String chunk) {
+            if (state == State.DONE) {
+                return;
+            }
+            if (state == State.SEEK_FIELD) {
+                pending.append(chunk);
+                int valueStart = findValueStart();
+                if (valueStart < 0) {
+                    return;
+                }
+                chunk = pending.substring(valueStart);
+                pending.setLength(0);
+                state = State.IN_VALUE;
+            }
+            emit(decode(chunk));
+        }
+
+        public boolean hasEmitted() {
+            return emitted;
+        }
+
+        /**
+         * "field" : " 다음 위치 (아직 도착하지 않았으면 -1)
+         */
+        private int findValueStart() {
+            int from = 0;
+            int index;
+            while ((index = pending.indexOf(fieldPrefix, from)) >= 0) {
+                int i = skipWhitespace(index + fieldPrefix.length());
+                if (i >= pending.length()) {
+                    return -1;
+                }
+                if (pending.charAt(i) == ':') {
+                    i = skipWhitespace(i + 1);
+                    if (i >= pending.length()) {
+                        return -1;
+                    }
+                    if (pending.charAt(i) == '"') {
+                        return i + 1;
+                    }
+                }
+                from = index + 1;
+            }
+            return -1;
+        }
+
+        private int skipWhitespace(int i) {
+            while (i < pending.length() && Character.isWhitespace(pending.charAt(i))) {
+                i++;
+            }
+            return i;
+        }
+
+        private String decode(String chunk) {
+            StringBuilder out = new StringBuilder(chunk.length());
+            for (int i = 0; i < chunk.length() && state == State.IN_VALUE; i++) {
+                char c = chunk.charAt(i);
+                if (unicode != null) {
+                    unicode.append(c);
+                    if (unicode.length() == 4) {
+                        try {
+                            out.append((char) Integer.parseInt(unicode.toString(), 16));
+                        } catch (NumberFormatException ignored) {
+                            // 잘못된 이스케이프는 버리고 계속 진행 (최종 파싱에서 걸러짐)
+                        }
+                        unicode = null;
+                    }
+                } else if (escaped) {
+                    escaped = false;
+                    switch (c) {
+                        case 'n' -> out.append('\n');
+                        case 't' -> out.append('\t');
+                        case 'r' -> out.append('\r');
+                        case 'b' -> out.append('\b');
+                        case 'f' -> out.append('\f');
+                        case 'u' -> unicode = new StringBuilder(4);
+                        default -> out.append(c);
+                    }
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    state = State.DONE;
+                } else {
+                    out.append(c);
+                }
+            }
+            return out.toString();
+        }
+
+        private void emit(String text) {
+            if (!text.isEmpty()) {
+                emitted = true;
+                onValueChunk.accept(text);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.dto.response.GradingResultDto;
+import com.study.springbootdeveloper.event.ProblemChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gemini 채점 결과 캐시
+ * (문제 ID, 정규화된 답안 해시) 기준으로 LRU + TTL 방식으로 보관
+ */
+@Slf4j
+@Component
+public class GradingResultCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // accessOrder = true → 가장 오래 사용되지 않은 항목부터 제거
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public GradingResultCache(@Value("${grading.cache.max-size:10000}") int maxSize,
+                              @Value("${grading.cache.ttl-minutes:360}") long ttlMinutes) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > GradingResultCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (만료된 항목은 제거 후 miss 처리)
+     */
+    public Optional<GradingResultDto> get(Long problemId, String userAnswer) {
+        Key key = keyOf(problemId, userAnswer);
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.createdAt() < ttlNanos) {
+                hits.increment();
+                return Optional.of(entry.result());
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(Long problemId, String userAnswer, GradingResultDto result) {
+        Key key = keyOf(problemId, userAnswer);
+        synchronized (entries) {
+            entries.put(key, new Entry(result, System.nanoTime()));
+        }
+    }
+
+    /**
+     * 특정 문제의 캐시 항목 전체 무효화
+     */
+    public void invalidateProblem(Long problemId) {
+        int removed = 0;
+        synchronized (entries) {
+            var iterator = entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().problemId().equals(problemId)) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        invalidations.add(removed);
+        log.info("Grading cache invalidated: problemId={}, removed={}", problemId, removed);
+    }
+
+    /**
+     * 문제 수정/삭제 시 커밋 이후 해당 문제의 캐시 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        if (event.changeType() != ProblemChangedEvent.ChangeType.CREATED) {
+            invalidateProblem(event.problemId());
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(size, maxSize, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    /**
+     * 답안 정규화: 유니코드 정규화, 소문자, 공백 압축, 끝 문장부호 제거
+     */
+    static String normalize(String answer) {
+        if (answer == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(answer, Normalizer.Form.NFKC)
+                .toLowerCase()
+                .replaceAll("\\s+", " ")
+                .trim();
+        return normalized.replaceAll("[.!?。]+$", "");
+    }
+
+    static Key keyOf(Long problemId, String userAnswer) {
+        return new Key(problemId, sha256(normalize(userAnswer)));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    record Key(Long problemId, String answerHash) {
+    }
+
+    private record Entry(GradingResultDto result, long createdAt) {
+    }
+
+    public record Stats(int size, int maxSize, long hits, long misses, long evictions, long invalidations) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.SolvedProblem;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 우선순위 채점 스케줄러
+ * - 챌린지(세션) → 로그인 자유 모드 → 비로그인 순서로 채점 워커를 배정
+ * - 하위 레인의 가장 오래된 작업이 starvation-ms 이상 기다렸으면 우선순위와 관계없이 먼저 처리 (기아 방지)
+ * - 레인별 대기열 크기 제한 (초과 시 RejectedExecutionException)
+ * - 워커 수는 Gemini 동시 호출 한도(벌크헤드)에서 계산: 워커가 한도보다 적으면 Gemini 호출이 워커 수에 묶이고,
+ *   많으면 남는 워커가 벌크헤드에서 거절되어 폴백 채점으로 빠지므로 대기는 이 스케줄러의 대기열에서만 하도록 맞춤
+ *   (배치 채점 사용 시 배치 하나가 슬롯 하나를 쓰므로 × batch.max-size)
+ */
+@Slf4j
+@Component
+public class GradingScheduler {
+
+    public enum Lane { CHALLENGE, FREE, GUEST }
+
+    private final int laneCapacity;
+    private final long starvationNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<Lane, ArrayDeque<Task>> queues = new EnumMap<>(Lane.class);
+    private final Map<Lane, LaneCounters> counters = new EnumMap<>(Lane.class);
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    public GradingScheduler(@Value("${grading.async.pool-size:0}") int configuredPoolSize,
+                            @Value("${grading.async.queue-capacity:200}") int laneCapacity,
+                            @Value("${grading.priority.starvation-ms:5000}") long starvationMs,
+                            @Value("${gemini.resilience.bulkhead.max-concurrent-calls:8}") int bulkheadSize,
+                            @Value("${gemini.batch.enabled:false}") boolean batchEnabled,
+                            @Value("${gemini.batch.max-size:8}") int batchMaxSize) {
+        int poolSize = configuredPoolSize > 0 ? configuredPoolSize
+                : bulkheadSize * (batchEnabled ? Math.max(1, batchMaxSize) : 1);
+        log.info("Grading scheduler workers: {} (bulkhead={}, batch={})", poolSize, bulkheadSize, batchEnabled);
+        this.laneCapacity = laneCapacity;
+        this.starvationNanos = TimeUnit.MILLISECONDS.toNanos(starvationMs);
+
+        for (Lane lane : Lane.values()) {
+            queues.put(lane, new ArrayDeque<>());
+            counters.put(lane, new LaneCounters());
+        }
+        for (int i = 1; i <= poolSize; i++) {
+            Thread worker = new Thread(this::work, "grading-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 제출 기록의 채점 레인 (세션 제출 → 챌린지, 로그인 → 자유 모드, 비로그인 → 게스트)
+     */
+    public static Lane laneOf(SolvedProblem submission) {
+        if (submission.getSession() != null) {
+            return Lane.CHALLENGE;
+        }
+        return submission.getUser() != null ? Lane.FREE : Lane.GUEST;
+    }
+
+    /**
+     * 채점 작업 등록 (레인 대기열이 가득 차면 RejectedExecutionException)
+     */
+    public void execute(Lane lane, Runnable job) {
+        lock.lock();
+        try {
+            if (!running) {
+                throw new RejectedExecutionException("Grading scheduler is shut down");
+            }
+            ArrayDeque<Task> queue = queues.get(lane);
+            if (queue.size() >= laneCapacity) {
+                counters.get(lane).rejected.increment();
+                throw new RejectedExecutionException("Grading lane is full: " + lane);
+            }
+            queue.addLast(new Task(lane, job, System.nanoTime()));
+            counters.get(lane).submitted.increment();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결과가 필요한 채점 작업 등록 (동기 제출용)
+     * 호출 측이 대기 시간 초과로 future를 취소하면 아직 대기열에 있는 작업은 실행하지 않음
+     */
+    public <T> CompletableFuture<T> submit(Lane lane, Supplier<T> job) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(lane, () -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(job.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    public int queueDepth(Lane lane) {
+        lock.lock();
+        try {
+            return queues.get(lane).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void work() {
+        while (true) {
+            Task task;
+            lock.lock();
+            try {
+                while ((task = pollNext()) == null) {
+                    if (!running) {
+                        return;
+                    }
+                    notEmpty.await();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            LaneCounters laneCounters = counters.get(task.lane());
+            laneCounters.recordWait(System.nanoTime() - task.enqueuedAt());
+            try {
+                task.job().run();
+            } catch (Throwable t) {
+                log.error("Grading task failed: lane={}", task.lane(), t);
+            } finally {
+                laneCounters.completed.increment();
+            }
+        }
+    }
+
+    /**
+     * 다음 작업 선택 (lock 보유 상태에서 호출)
+     * 기본은 가장 높은 우선순위 레인, 하위 레인 중 기아 기준을 넘긴 작업이 있으면 가장 오래 기다린 작업
+     */
+    private Task pollNext() {
+        long now = System.nanoTime();
+        Lane selected = null;
+        Lane starving = null;
+        long longestWait = starvationNanos;
+
+        for (Lane lane : Lane.values()) {
+            Task head = queues.get(lane).peekFirst();
+            if (head == null) {
+                continue;
+            }
+            if (selected == null) {
+                selected = lane;
+                continue;
+            }
+            long waited = now - head.enqueuedAt();
+            if (waited >= longestWait) {
+                longestWait = waited;
+                starving = lane;
+            }
+        }
+
+        if (starving != null) {
+            counters.get(starving).promoted.increment();
+            return queues.get(starving).pollFirst();
+        }
+        return selected != null ? queues.get(selected).pollFirst() : null;
+    }
+
+    public List<LaneStats> stats() {
+        List<LaneStats> stats = new ArrayList<>();
+        for (Lane lane : Lane.values()) {
+            LaneCounters laneCounters = counters.get(lane);
+            long started = laneCounters.waitCount.sum();
+            stats.add(new LaneStats(
+                    lane,
+                    queueDepth(lane),
+                    laneCounters.submitted.sum(),
+                    laneCounters.completed.sum(),
+                    laneCounters.rejected.sum(),
+                    laneCounters.promoted.sum(),
+                    started == 0 ? 0.0 : laneCounters.totalWaitNanos.sum() / 1_000_000.0 / started,
+                    TimeUnit.NANOSECONDS.toMillis(laneCounters.maxWaitNanos.get())
+            ));
+        }
+        return stats;
+    }
+
+    /**
+     * 새 작업은 받지 않고, 대기 중인 작업은 최대 30초 동안 처리
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+
+        int dropped = 0;
+        for (Lane lane : Lane.values()) {
+            dropped += queueDepth(lane);
+        }
+        if (dropped > 0) {
+            log.warn("Grading scheduler did not drain in time, {} tasks dropped", dropped);
+        }
+        workers.forEach(Thread::interrupt);
+    }
+
+    private record Task(Lane lane, Runnable job, long enqueuedAt) {
+    }
+
+    private static class LaneCounters {
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder promoted = new LongAdder();
+        private final LongAdder waitCount = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        void recordWait(long nanos) {
+            waitCount.increment();
+            totalWaitNanos.add(nanos);
+            maxWaitNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * @param promoted 기아 방지로 상위 레인보다 먼저 처리된 작업 수
+     */
+    public record LaneStats(Lane lane, int queueDepth, long submitted, long completed, long rejected, long promoted,
+                            double averageWaitMs, long maxWaitMs) {
+    }
+}
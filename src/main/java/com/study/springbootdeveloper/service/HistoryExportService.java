@@ -0,0 +1,283 @@
+package com.study.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.repository.SolvedProblemRepository;
+import com.study.springbootdeveloper.type.ErrorCode;
+import com.study.springbootdeveloper.type.ExportFormat;
+import com.study.springbootdeveloper.type.GradingStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 풀이 이력 내보내기 (CSV / NDJSON, 선택적으로 gzip)
+ * - 읽기 전용 트랜잭션 안에서 DB 커서(스트리밍 결과셋)로 한 행씩 읽어 바로 응답에 기록 → 이력 크기와 무관하게 메모리 일정
+ * - 엔티티 대신 프로젝션으로 읽어 영속성 컨텍스트에 쌓이지 않음
+ * - 내보내기 1건이 끝날 때까지 DB 커넥션을 점유하므로 동시 실행 수 제한 (초과 시 EXPORT_BUSY)
+ *   실행 자리는 응답 본문을 쓰는 작업 안에서 잡고 놓음 → 작업이 실행되지 않고 끝난 요청이 자리를 잡고 있지 않음
+ */
+@Slf4j
+@Service
+public class HistoryExportService {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final String[] CSV_HEADER = {
+            "solvedProblemId", "problemId", "category", "difficulty", "problemType", "question",
+            "userAnswer", "isCorrect", "score", "status", "feedback", "solvedAt"
+    };
+
+    private final SolvedProblemRepository solvedProblemRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final JsonFactory jsonFactory;
+    private final Semaphore permits;
+    private final long permitWaitMs;
+
+    public HistoryExportService(SolvedProblemRepository solvedProblemRepository,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                @Value("${statistics.export.max-concurrent:2}") int maxConcurrent,
+                                @Value("${statistics.export.permit-wait-ms:5000}") long permitWaitMs) {
+        this.solvedProblemRepository = solvedProblemRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jsonFactory = objectMapper.getFactory();
+        this.permits = new Semaphore(maxConcurrent);
+        this.permitWaitMs = permitWaitMs;
+    }
+
+    /**
+     * 사용자 전체 풀이 이력 (제출 시각 순)
+     * 빈 자리가 없으면 바로 EXPORT_BUSY, 실제 자리 확보와 조회/기록은 응답 본문을 쓸 때 수행
+     * (그 사이 자리가 찼으면 permit-wait-ms만큼 기다린 뒤 응답을 중단)
+     */
+    public StreamingResponseBody export(Long userId, ExportFormat format, boolean gzip) {
+        if (permits.availablePermits() == 0) {
+            throw new RestApiException(ErrorCode.EXPORT_BUSY);
+        }
+        return out -> {
+            try {
+                if (!permits.tryAcquire(permitWaitMs, TimeUnit.MILLISECONDS)) {
+                    throw new IOException("History export busy: userId=" + userId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for history export slot");
+            }
+            try {
+                write(userId, format, gzip, out);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private void write(Long userId, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter rows = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(jsonFactory, writer);
+
+        long count;
+        try {
+            rows.begin();
+            count = readOnlyTransaction.execute(status -> {
+                long written = 0;
+                try (Stream<SolvedProblemRepository.HistoryRow> stream = solvedProblemRepository.streamHistoryByUserId(userId)) {
+                    for (SolvedProblemRepository.HistoryRow row : (Iterable<SolvedProblemRepository.HistoryRow>) stream::iterator) {
+                        rows.write(row);
+                        written++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return written;
+            });
+            rows.end();
+            writer.flush();
+            if (gzipOut != null) {
+                gzipOut.finish();
+            }
+        } catch (UncheckedIOException e) {
+            // 대부분 클라이언트가 다운로드를 중단한 경우
+            log.info("History export aborted: userId={}, format={}, reason={}", userId, format, e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        log.info("History exported: userId={}, format={}, gzip={}, rows={}, elapsedMs={}",
+                userId, format, gzip, count, System.currentTimeMillis() - startedAt);
+    }
+
+    private static String statusOf(SolvedProblemRepository.HistoryRow row) {
+        // 상태가 없는 기존 데이터는 채점 완료
+        return (row.getStatus() != null ? row.getStatus() : GradingStatus.COMPLETED).name();
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(SolvedProblemRepository.HistoryRow row) throws IOException;
+
+        void end() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV (엑셀에서 한글이 깨지지 않도록 BOM 포함)
+     * 스프레드시트 수식으로 해석될 수 있는 텍스트(=, +, -, @로 시작)는 앞에 '를 붙임
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write('\uFEFF');
+            for (int i = 0; i < CSV_HEADER.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(CSV_HEADER[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(SolvedProblemRepository.HistoryRow row) throws IOException {
+            plain(row.getId());
+            writer.write(',');
+            plain(row.getProblemId());
+            writer.write(',');
+            plain(row.getCategory());
+            writer.write(',');
+            plain(row.getDifficulty());
+            writer.write(',');
+            plain(row.getProblemType());
+            writer.write(',');
+            text(row.getQuestion());
+            writer.write(',');
+            text(row.getUserAnswer());
+            writer.write(',');
+            plain(row.getIsCorrect());
+            writer.write(',');
+            plain(row.getScore());
+            writer.write(',');
+            plain(statusOf(row));
+            writer.write(',');
+            text(row.getAiFeedback());
+            writer.write(',');
+            plain(row.getSolvedAt());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void end() {
+        }
+
+        private void plain(Object value) throws IOException {
+            if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+
+        private void text(String value) throws IOException {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            writer.write('"');
+            char first = value.charAt(0);
+            if (first == '=' || first == '+' || first == '-' || first == '@') {
+                writer.write('\'');
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (Jackson 스트리밍 생성기로 직접 기록, 행마다 Map을 만들지 않음)
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(JsonFactory jsonFactory, Writer writer) throws IOException {
+            this.generator = jsonFactory.createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null); // 객체 사이 구분은 직접 쓰는 줄바꿈만 사용
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(SolvedProblemRepository.HistoryRow row) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("solvedProblemId", row.getId());
+            generator.writeNumberField("problemId", row.getProblemId());
+            writeString("category", row.getCategory() != null ? row.getCategory().name() : null);
+            writeString("difficulty", row.getDifficulty() != null ? row.getDifficulty().name() : null);
+            writeString("problemType", row.getProblemType() != null ? row.getProblemType().name() : null);
+            writeString("question", row.getQuestion());
+            writeString("userAnswer", row.getUserAnswer());
+            if (row.getIsCorrect() != null) {
+                generator.writeBooleanField("isCorrect", row.getIsCorrect());
+            } else {
+                generator.writeNullField("isCorrect");
+            }
+            if (row.getScore() != null) {
+                generator.writeNumberField("score", row.getScore());
+            } else {
+                generator.writeNullField("score");
+            }
+            writeString("status", statusOf(row));
+            writeString("feedback", row.getAiFeedback());
+            writeString("solvedAt", row.getSolvedAt() != null ? row.getSolvedAt().toString() : null);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.flush();
+        }
+
+        private void writeString(String field, String value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(field, value);
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.LeaderboardPeriod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리더보드 순위 이력 (순위 그래프용)
+ * - 주기적으로 모든 리더보드(기간 × 전체/카테고리)의 상위 top-size명을 스냅샷으로 저장
+ * - 보드마다 최근 retention개 스냅샷만 보관 (가장 오래된 것부터 버림) → 메모리 상한 = 보드 수 × retention × top-size
+ * - 스냅샷은 사용자 id 정렬 배열로 저장해 특정 사용자 순위를 이진 탐색으로 조회
+ * - 메모리에만 보관하므로 재기동하면 이력은 다시 쌓임
+ */
+@Slf4j
+@Service
+public class LeaderboardHistoryService {
+
+    private final LeaderboardService leaderboardService;
+    private final WindowedLeaderboardService windowedLeaderboardService;
+    private final int retention;
+    private final int topSize;
+
+    private final Map<BoardKey, Deque<Snapshot>> history = new ConcurrentHashMap<>();
+
+    public LeaderboardHistoryService(LeaderboardService leaderboardService,
+                                     WindowedLeaderboardService windowedLeaderboardService,
+                                     @Value("${leaderboard.snapshot.retention:168}") int retention,
+                                     @Value("${leaderboard.snapshot.top-size:500}") int topSize) {
+        this.leaderboardService = leaderboardService;
+        this.windowedLeaderboardService = windowedLeaderboardService;
+        this.retention = retention;
+        this.topSize = topSize;
+    }
+
+    /**
+     * 모든 리더보드의 현재 순위 스냅샷 저장
+     */
+    @Scheduled(cron = "${leaderboard.snapshot.cron:0 0 * * * *}")
+    public void takeSnapshots() {
+        LocalDateTime takenAt = LocalDateTime.now();
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            takeSnapshot(new BoardKey(period, null), takenAt);
+            for (Category category : Category.values()) {
+                takeSnapshot(new BoardKey(period, category), takenAt);
+            }
+        }
+        log.debug("Leaderboard snapshots taken: boards={}, takenAt={}", history.size(), takenAt);
+    }
+
+    /**
+     * 사용자의 순위 이력 (오래된 순, 스냅샷 당시 상위 top-size 밖이었으면 rank/score null)
+     */
+    public List<Point> getHistory(Long userId, LeaderboardPeriod period, Category category) {
+        Deque<Snapshot> snapshots = history.get(new BoardKey(period, category));
+        if (snapshots == null) {
+            return List.of();
+        }
+
+        List<Point> points = new ArrayList<>();
+        synchronized (snapshots) {
+            for (Snapshot snapshot : snapshots) {
+                points.add(snapshot.pointOf(userId));
+            }
+        }
+        return points;
+    }
+
+    private void takeSnapshot(BoardKey key, LocalDateTime takenAt) {
+        LeaderboardService.Page page = key.period() == LeaderboardPeriod.ALL
+                ? leaderboardService.getPage(key.category(), 0, topSize)
+                : windowedLeaderboardService.getPage(key.period(), key.category(), 0, topSize);
+        Snapshot snapshot = Snapshot.of(takenAt, page);
+
+        Deque<Snapshot> snapshots = history.computeIfAbsent(key, k -> new ArrayDeque<>(retention));
+        synchronized (snapshots) {
+            while (snapshots.size() >= retention) {
+                snapshots.removeFirst();
+            }
+            snapshots.addLast(snapshot);
+        }
+    }
+
+    private record BoardKey(LeaderboardPeriod period, Category category) {
+    }
+
+    /**
+     * 스냅샷 1건 (members 오름차순, ranks/scores는 같은 위치의 사용자 값)
+     */
+    private record Snapshot(LocalDateTime takenAt, int totalUsers, long[] members, int[] ranks, long[] scores) {
+
+        static Snapshot of(LocalDateTime takenAt, LeaderboardService.Page page) {
+            List<LeaderboardService.Ranking> rankings = new ArrayList<>(page.rankings());
+            rankings.sort((a, b) -> Long.compare(a.userId(), b.userId()));
+
+            long[] members = new long[rankings.size()];
+            int[] ranks = new int[rankings.size()];
+            long[] scores = new long[rankings.size()];
+            for (int i = 0; i < rankings.size(); i++) {
+                LeaderboardService.Ranking ranking = rankings.get(i);
+                members[i] = ranking.userId();
+                ranks[i] = ranking.rank();
+                scores[i] = ranking.score();
+            }
+            return new Snapshot(takenAt, page.totalUsers(), members, ranks, scores);
+        }
+
+        Point pointOf(long userId) {
+            int index = Arrays.binarySearch(members, userId);
+            return index < 0
+                    ? new Point(takenAt, null, null, totalUsers)
+                    : new Point(takenAt, ranks[index], scores[index], totalUsers);
+        }
+    }
+
+    public record Point(LocalDateTime takenAt, Integer rank, Long score, int totalUsers) {
+    }
+}
@@ -0,0 +1,285 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.event.SubmissionGradedEvent;
+import com.study.springbootdeveloper.repository.SolvedProblemRepository;
+import com.study.springbootdeveloper.repository.UserProblemStatsRepository;
+import com.study.springbootdeveloper.repository.UserRepository;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.GradingStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 전체 기간 리더보드 (누적 점수 순, 메모리 기반, 전체 + 카테고리별)
+ * - 순위 구조는 스킵 리스트: 채점 완료 시 O(log n) 갱신, 상위 N명/내 순위 조회는 DB 조회 없음
+ * - 기동 시와 매일 한 번 사용자 통계 카운터 테이블에서 다시 만들어 교체 (카운터 재계산 결과 반영)
+ *   재구성 중에 들어온 점수/삭제는 따로 모아 두었다가 교체 직후 새 구조에 다시 적용
+ *   조회와 같은 읽기 전용 트랜잭션(InnoDB 일관된 스냅샷) 안에서 이미 조회 결과에 포함된 채점은 골라내 중복 반영하지 않음
+ * - 갱신마다 version 증가 → 스트림(SSE)은 version이 바뀐 경우에만 모아서 전송
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    private final UserProblemStatsRepository userProblemStatsRepository;
+    private final UserRepository userRepository;
+    private final SolvedProblemRepository solvedProblemRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private RankedSkipList board = new RankedSkipList();
+    private Map<Category, RankedSkipList> categoryBoards = newCategoryBoards();
+    // 재구성 중일 때만 null이 아님 (쓰기 락 안에서만 접근)
+    private List<Delta> pendingDeltas;
+    private final Map<Long, String> nicknames = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public LeaderboardService(UserProblemStatsRepository userProblemStatsRepository, UserRepository userRepository,
+                              SolvedProblemRepository solvedProblemRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.userProblemStatsRepository = userProblemStatsRepository;
+        this.userRepository = userRepository;
+        this.solvedProblemRepository = solvedProblemRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * DB(사용자 통계 카운터)에서 순위 구조를 새로 만들어 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${leaderboard.resync-cron:0 0 5 * * *}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        // DB 조회 전부터 들어오는 변경을 모아 교체 후 새 구조에 반영
+        lock.writeLock().lock();
+        try {
+            pendingDeltas = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        RebuildResult result;
+        try {
+            result = readOnlyTransaction.execute(status -> {
+                RankedSkipList rebuilt = new RankedSkipList();
+                Map<Category, RankedSkipList> rebuiltCategories = newCategoryBoards();
+                for (UserProblemStatsRepository.UserScore row : userProblemStatsRepository.sumScoreByUserAndCategory()) {
+                    long score = row.getTotalScore() != null ? row.getTotalScore() : 0L;
+                    rebuilt.add(row.getUserId(), score);
+                    if (row.getCategory() != null) {
+                        rebuiltCategories.get(row.getCategory()).put(row.getUserId(), score);
+                    }
+                }
+                for (UserRepository.UserNickname row : userRepository.findAllNicknames()) {
+                    nicknames.put(row.getId(), row.getNickname());
+                }
+
+                lock.writeLock().lock();
+                try {
+                    Set<Long> alreadyCounted = countedInSnapshot(pendingDeltas);
+                    int replayed = 0;
+                    for (Delta delta : pendingDeltas) {
+                        if (delta.solvedProblemId() != null && alreadyCounted.contains(delta.solvedProblemId())) {
+                            continue;
+                        }
+                        delta.applyTo(rebuilt, rebuiltCategories);
+                        replayed++;
+                        if (delta.removal()) {
+                            nicknames.remove(delta.userId());
+                        }
+                    }
+                    pendingDeltas = null;
+                    board = rebuilt;
+                    categoryBoards = rebuiltCategories;
+                    return new RebuildResult(rebuilt.size(), replayed);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            // 실패 시 모으던 변경은 버리고 기존 구조를 그대로 사용 (이미 기존 구조에도 반영되어 있음)
+            lock.writeLock().lock();
+            try {
+                pendingDeltas = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        version.incrementAndGet();
+        log.info("Leaderboard rebuilt: users={}, replayedDeltas={}, elapsedMs={}",
+                result.users(), result.replayedDeltas(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 재구성 중 모인 채점 중 조회 스냅샷에 이미 반영되어 있던 것 (같은 트랜잭션 안에서 호출해야 함)
+     */
+    private Set<Long> countedInSnapshot(List<Delta> deltas) {
+        List<Long> ids = deltas.stream().map(Delta::solvedProblemId).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(solvedProblemRepository.findIdsByIdInAndStatus(ids, GradingStatus.COMPLETED));
+    }
+
+    /**
+     * 채점 결과 커밋 이후 점수 반영 (비로그인 제출은 제외)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionGraded(SubmissionGradedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        long delta = event.score() != null ? event.score() : 0L;
+        if (!nicknames.containsKey(event.userId())) {
+            userRepository.findById(event.userId())
+                    .ifPresent(user -> nicknames.put(user.getId(), user.getNickname()));
+        }
+
+        apply(new Delta(event.solvedProblemId(), event.userId(), event.category(), delta, false));
+        version.incrementAndGet();
+    }
+
+    /**
+     * 사용자 삭제 시 순위에서 제외
+     */
+    public void removeUser(Long userId) {
+        boolean removed = apply(new Delta(null, userId, null, 0L, true));
+        nicknames.remove(userId);
+        if (removed) {
+            version.incrementAndGet();
+        }
+    }
+
+    private boolean apply(Delta delta) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDeltas != null) {
+                pendingDeltas.add(delta);
+            }
+            return delta.applyTo(board, categoryBoards);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page getPage(int offset, int limit) {
+        return getPage(null, offset, limit);
+    }
+
+    /**
+     * offset번째(0부터)부터 limit명 (category가 null이면 전체 순위)
+     */
+    public Page getPage(Category category, int offset, int limit) {
+        List<RankedSkipList.Entry> entries;
+        int total;
+        lock.readLock().lock();
+        try {
+            RankedSkipList target = boardOf(category);
+            entries = target.range(offset, limit);
+            total = target.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Page(entries.stream().map(this::toRanking).toList(), total);
+    }
+
+    public Ranking getRanking(Long userId) {
+        return getRanking(null, userId);
+    }
+
+    /**
+     * 특정 사용자의 순위 (아직 채점된 풀이가 없으면 null)
+     */
+    public Ranking getRanking(Category category, Long userId) {
+        int rank;
+        Long score;
+        lock.readLock().lock();
+        try {
+            RankedSkipList target = boardOf(category);
+            rank = target.rank(userId);
+            score = target.score(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rank == 0 ? null : new Ranking(rank, userId, nicknames.get(userId), score);
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 닉네임 조회 (기간 리더보드와 함께 사용, 모르는 사용자면 null)
+     */
+    public String nickname(Long userId) {
+        return nicknames.get(userId);
+    }
+
+    private RankedSkipList boardOf(Category category) {
+        return category == null ? board : categoryBoards.get(category);
+    }
+
+    private Ranking toRanking(RankedSkipList.Entry entry) {
+        return new Ranking(entry.rank(), entry.member(), nicknames.get(entry.member()), entry.score());
+    }
+
+    private static Map<Category, RankedSkipList> newCategoryBoards() {
+        Map<Category, RankedSkipList> boards = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            boards.put(category, new RankedSkipList());
+        }
+        return boards;
+    }
+
+    /**
+     * 점수 반영 또는 사용자 제외 (재구성 중에는 교체 후 다시 적용하기 위해 보관)
+     *
+     * @param solvedProblemId 점수 반영이면 채점된 제출 id (사용자 제외면 null)
+     */
+    private record Delta(Long solvedProblemId, Long userId, Category category, long score, boolean removal) {
+
+        boolean applyTo(RankedSkipList board, Map<Category, RankedSkipList> categoryBoards) {
+            if (removal) {
+                boolean removed = board.remove(userId);
+                for (RankedSkipList categoryBoard : categoryBoards.values()) {
+                    categoryBoard.remove(userId);
+                }
+                return removed;
+            }
+            board.add(userId, score);
+            if (category != null) {
+                categoryBoards.get(category).add(userId, score);
+            }
+            return true;
+        }
+    }
+
+    private record RebuildResult(int users, int replayedDeltas) {
+    }
+
+    public record Ranking(int rank, Long userId, String nickname, long score) {
+    }
+
+    public record Page(List<Ranking> rankings, int totalUsers) {
+    }
+}
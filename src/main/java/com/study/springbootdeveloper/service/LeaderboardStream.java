@@ -0,0 +1,169 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.dto.response.LeaderboardResponse;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.type.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리더보드 실시간 스트림 (SSE)
+ * 순위가 바뀔 때마다 보내지 않고 interval-ms마다 한 번, 그 사이 변경이 있었을 때만 최신 상위 N명을 전송 (변경 합치기)
+ * 구독 시 userId를 주면 해당 사용자의 순위도 함께 전송
+ * 전송은 전용 스레드 풀에서 하며 (공용 @Scheduled 스레드를 막지 않도록), 이전 전송이 아직 끝나지 않은 느린 구독자는 끊음
+ */
+@Slf4j
+@Component
+public class LeaderboardStream {
+
+    private final LeaderboardService leaderboardService;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final int topSize;
+
+    private final ThreadPoolExecutor sendExecutor;
+
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private volatile long sentVersion = -1;
+
+    public LeaderboardStream(LeaderboardService leaderboardService,
+                             @Value("${leaderboard.stream.timeout-ms:300000}") long timeoutMs,
+                             @Value("${leaderboard.stream.max-subscribers:1000}") int maxSubscribers,
+                             @Value("${leaderboard.stream.top-size:10}") int topSize,
+                             @Value("${leaderboard.stream.send-threads:4}") int sendThreads) {
+        this.leaderboardService = leaderboardService;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.topSize = topSize;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxSubscribers), runnable -> {
+                    Thread thread = new Thread(runnable, "leaderboard-stream-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * 구독 등록 후 현재 순위를 즉시 한 번 전송
+     */
+    public SseEmitter subscribe(Long userId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RestApiException(ErrorCode.LEADERBOARD_STREAM_FULL);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, userId);
+        subscriber.sending().set(true);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        send(subscriber, snapshot());
+        return emitter;
+    }
+
+    /**
+     * 마지막 전송 이후 순위가 바뀌었으면 모든 구독자에게 최신 순위 전송 (전송 스레드 풀로 넘기고 바로 반환)
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.stream.interval-ms:1000}")
+    public void flush() {
+        long version = leaderboardService.version();
+        if (version == sentVersion || subscribers.isEmpty()) {
+            return;
+        }
+        sentVersion = version;
+
+        LeaderboardResponse top = snapshot();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.sending().compareAndSet(false, true)) {
+                drop(subscriber, "previous send still in progress");
+                continue;
+            }
+            try {
+                sendExecutor.execute(() -> send(subscriber, top));
+            } catch (RejectedExecutionException e) {
+                subscriber.sending().set(false);
+                drop(subscriber, "send queue full");
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private LeaderboardResponse snapshot() {
+        return LeaderboardResponse.from(leaderboardService.getPage(0, topSize), null);
+    }
+
+    /**
+     * 호출 전에 subscriber.sending()을 true로 설정해야 함
+     */
+    private void send(Subscriber subscriber, LeaderboardResponse top) {
+        try {
+            LeaderboardResponse payload = subscriber.userId() == null ? top
+                    : top.withMe(leaderboardService.getRanking(subscriber.userId()));
+            subscriber.emitter().send(SseEmitter.event().name("leaderboard").data(payload, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            log.debug("Leaderboard SSE client disconnected: {}", e.getMessage());
+        } finally {
+            subscriber.sending().set(false);
+            if (subscriber.dropped().get()) {
+                closeIfIdle(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 느린 구독자는 목록에서 빼고 연결을 닫아 클라이언트가 다시 구독하게 함
+     * (전송 중이면 그 전송이 끝난 스레드가 닫음: 스케줄러 스레드가 막힌 쓰기를 기다리지 않도록)
+     */
+    private void drop(Subscriber subscriber, String reason) {
+        subscriber.dropped().set(true);
+        if (subscribers.remove(subscriber)) {
+            log.debug("Leaderboard SSE subscriber dropped: userId={}, reason={}", subscriber.userId(), reason);
+        }
+        closeIfIdle(subscriber);
+    }
+
+    private void closeIfIdle(Subscriber subscriber) {
+        if (!subscriber.sending().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            subscriber.emitter().complete();
+        } catch (RuntimeException e) {
+            log.debug("Leaderboard SSE close failed: {}", e.getMessage());
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, Long userId, AtomicBoolean sending, AtomicBoolean dropped) {
+
+        Subscriber(SseEmitter emitter, Long userId) {
+            this(emitter, userId, new AtomicBoolean(false), new AtomicBoolean(false));
+        }
+    }
+}
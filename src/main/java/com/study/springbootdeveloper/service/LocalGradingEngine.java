@@ -0,0 +1,331 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.Problem;
+import com.study.springbootdeveloper.dto.response.GradingResultDto;
+import com.study.springbootdeveloper.event.ProblemChangedEvent;
+import com.study.springbootdeveloper.repository.ProblemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 유사도 채점기 (Gemini 장애/한도 초과 시 또는 기본 채점기로 사용)
+ * 모든 문제의 모범 답안과 해설로 단어/문자 n-gram TF-IDF 벡터를 미리 계산해 두고,
+ * 학생 답안과의 코사인 유사도와 핵심 키워드 포함률로 0~100점 채점
+ */
+@Slf4j
+@Component
+public class LocalGradingEngine {
+
+    // 유사도(0~1)와 키워드 포함률(0~1)의 가중합을 0~100점으로 보정하는 구간
+    private static final double RAW_SCORE_FLOOR = 0.10;
+    private static final double RAW_SCORE_CEILING = 0.60;
+    private static final double SIMILARITY_WEIGHT = 0.55;
+    private static final double KEYWORD_WEIGHT = 0.45;
+    // 해설까지 포함한 참고 문서와의 유사도는 모범 답안보다 낮게 반영
+    private static final double REFERENCE_DISCOUNT = 0.85;
+    // 모범 답안 대비 이 비율보다 짧은 답안은 길이에 비례해 감점
+    private static final double MIN_LENGTH_RATIO = 0.25;
+    private static final int MAX_KEYWORDS = 8;
+    // 어간 추출 시 제거할 조사/어미 (긴 것부터 검사)
+    private static final List<String> SUFFIXES = List.of(
+            "합니다", "됩니다", "이라고", "으로", "에서", "에게", "하여", "해서", "하는", "되는", "된다", "한다",
+            "라고", "에는", "이", "가", "은", "는", "을", "를", "의", "에", "와", "과", "도", "로");
+
+    private final ProblemRepository problemRepository;
+    private final int correctScore;
+    private final int partialScore;
+
+    private volatile Index index;
+    private volatile boolean stale = true;
+
+    public LocalGradingEngine(ProblemRepository problemRepository,
+                              @Value("${grading.local.correct-score:70}") int correctScore,
+                              @Value("${grading.local.partial-score:50}") int partialScore) {
+        this.problemRepository = problemRepository;
+        this.correctScore = correctScore;
+        this.partialScore = partialScore;
+    }
+
+    /**
+     * 답안 채점 (정답 판정 기준: correctScore점 이상)
+     */
+    public GradingResultDto grade(Problem problem, String userAnswer) {
+        Index current = currentIndex();
+        ProblemVectors vectors = current.problems().get(problem.getId());
+        if (vectors == null) {
+            // 색인 이후 추가된 문제는 현재 IDF로 즉석 계산
+            vectors = current.vectorize(problem);
+        }
+
+        String normalizedAnswer = normalize(userAnswer);
+        int score;
+        List<String> missingKeywords;
+
+        if (normalizedAnswer.isEmpty()) {
+            score = 0;
+            missingKeywords = vectors.keywords();
+        } else if (normalizedAnswer.equals(vectors.normalizedAnswer())) {
+            score = 100;
+            missingKeywords = List.of();
+        } else {
+            SparseVector answerVector = current.vector(normalizedAnswer);
+            double similarity = Math.max(
+                    answerVector.cosine(vectors.answer()),
+                    REFERENCE_DISCOUNT * answerVector.cosine(vectors.reference()));
+
+            missingKeywords = vectors.keywords().stream()
+                    .filter(keyword -> !containsKeyword(normalizedAnswer, keyword))
+                    .toList();
+            double coverage = vectors.keywords().isEmpty()
+                    ? similarity
+                    : 1.0 - (double) missingKeywords.size() / vectors.keywords().size();
+
+            double raw = SIMILARITY_WEIGHT * similarity + KEYWORD_WEIGHT * coverage;
+            double scaled = clamp((raw - RAW_SCORE_FLOOR) / (RAW_SCORE_CEILING - RAW_SCORE_FLOOR));
+
+            int tokenCount = tokenize(normalizedAnswer).size();
+            double minTokens = Math.max(1.0, vectors.answerTokenCount() * MIN_LENGTH_RATIO);
+            if (tokenCount < minTokens) {
+                scaled *= tokenCount / minTokens;
+            }
+            score = (int) Math.round(scaled * 100);
+        }
+
+        boolean isCorrect = score >= correctScore;
+        return GradingResultDto.builder()
+                .isCorrect(isCorrect)
+                .score(score)
+                .feedback(buildFeedback(problem, score, isCorrect, missingKeywords))
+                .build();
+    }
+
+    /**
+     * 문제 등록/수정/삭제 시 다음 채점 때 색인 재계산 (IDF가 전체 문서에 의존)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        stale = true;
+    }
+
+    private String buildFeedback(Problem problem, int score, boolean isCorrect, List<String> missingKeywords) {
+        StringBuilder feedback = new StringBuilder();
+        if (isCorrect) {
+            feedback.append("정답입니다! (자동 채점)");
+        } else if (score >= partialScore) {
+            feedback.append("부분정답입니다. (자동 채점)\n정답: ").append(problem.getAnswer());
+        } else {
+            feedback.append("오답입니다. (자동 채점)\n정답: ").append(problem.getAnswer());
+        }
+
+        if (!missingKeywords.isEmpty() && !isCorrect) {
+            feedback.append("\n보완할 핵심 키워드: ").append(String.join(", ", missingKeywords));
+        }
+        feedback.append("\n기본 해설: ").append(problem.getExplanation());
+        return feedback.toString();
+    }
+
+    private Index currentIndex() {
+        Index current = index;
+        if (current != null && !stale) {
+            return current;
+        }
+        synchronized (this) {
+            if (index == null || stale) {
+                // 재계산 중 들어온 변경은 다음 채점에서 다시 반영되도록 먼저 해제
+                stale = false;
+                long start = System.nanoTime();
+                index = Index.build(problemRepository.findAll());
+                log.info("Local grading index built: problems={}, features={}, elapsed={}ms",
+                        index.problems().size(), index.featureIds().size(), (System.nanoTime() - start) / 1_000_000);
+            }
+            return index;
+        }
+    }
+
+    // ==================== 텍스트 처리 ====================
+
+    /**
+     * 유니코드 정규화, 소문자, 문자/숫자 외 기호는 공백으로
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase()
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+
+    private static List<String> tokenize(String normalized) {
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return List.of(normalized.split(" "));
+    }
+
+    /**
+     * 끝에 붙은 조사/어미 제거 ("컨테이너가" → "컨테이너", "감지하여" → "감지")
+     */
+    static String stem(String token) {
+        for (String suffix : SUFFIXES) {
+            if (token.length() - suffix.length() >= 2 && token.endsWith(suffix)) {
+                return token.substring(0, token.length() - suffix.length());
+            }
+        }
+        return token;
+    }
+
+    /**
+     * 어간 단어 특징(w:)과 단어 내부 문자 2~3-gram 특징(c:)의 빈도
+     * 문자 n-gram은 어미 변화나 표기 차이가 있는 단어도 가깝게 만듦
+     */
+    private static Map<String, Integer> features(String normalized) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : tokenize(normalized)) {
+            counts.merge("w:" + stem(token), 1, Integer::sum);
+            String padded = "_" + token + "_";
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= padded.length(); i++) {
+                    counts.merge("c:" + padded.substring(i, i + n), 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 키워드(어간) 포함 여부, 조사/어미가 붙은 형태도 포함으로 간주
+     */
+    private static boolean containsKeyword(String normalizedAnswer, String keyword) {
+        return normalizedAnswer.contains(keyword);
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+
+    // ==================== 색인 ====================
+
+    private record ProblemVectors(String normalizedAnswer, SparseVector answer, SparseVector reference,
+                                  List<String> keywords, int answerTokenCount) {
+    }
+
+    /**
+     * 모범 답안/해설 전체로 계산한 특징 사전과 IDF, 문제별 벡터
+     */
+    private record Index(Map<String, Integer> featureIds, double[] idf, double unknownIdf,
+                         Map<Long, ProblemVectors> problems) {
+
+        static Index build(List<Problem> problems) {
+            // 문서 = 각 문제의 모범 답안, 해설
+            Map<String, Integer> featureIds = new HashMap<>();
+            List<Integer> documentFrequency = new ArrayList<>();
+            int documents = 0;
+
+            for (Problem problem : problems) {
+                for (String text : List.of(normalize(problem.getAnswer()), normalize(problem.getExplanation()))) {
+                    if (text.isEmpty()) {
+                        continue;
+                    }
+                    documents++;
+                    for (String feature : features(text).keySet()) {
+                        Integer id = featureIds.get(feature);
+                        if (id == null) {
+                            featureIds.put(feature, documentFrequency.size());
+                            documentFrequency.add(1);
+                        } else {
+                            documentFrequency.set(id, documentFrequency.get(id) + 1);
+                        }
+                    }
+                }
+            }
+
+            double[] idf = new double[documentFrequency.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log((documents + 1.0) / (documentFrequency.get(i) + 1.0)) + 1.0;
+            }
+            double unknownIdf = Math.log(documents + 1.0) + 1.0;
+
+            Index index = new Index(featureIds, idf, unknownIdf, new HashMap<>());
+            for (Problem problem : problems) {
+                index.problems().put(problem.getId(), index.vectorize(problem));
+            }
+            return index;
+        }
+
+        ProblemVectors vectorize(Problem problem) {
+            String answer = normalize(problem.getAnswer());
+            String explanation = normalize(problem.getExplanation());
+            List<String> answerTokens = tokenize(answer);
+
+            // 핵심 키워드: 모범 답안의 두 글자 이상 어간 중 IDF가 높은 순
+            List<String> keywords = answerTokens.stream()
+                    .map(LocalGradingEngine::stem)
+                    .filter(token -> token.length() >= 2)
+                    .collect(Collectors.toCollection(LinkedHashSet::new)).stream()
+                    .sorted(Comparator.comparingDouble((String token) -> idfOf("w:" + token)).reversed())
+                    .limit(Math.min(MAX_KEYWORDS, Math.max(3, answerTokens.size() / 2)))
+                    .collect(Collectors.toList());
+
+            return new ProblemVectors(
+                    answer,
+                    vector(answer),
+                    vector((answer + " " + explanation).trim()),
+                    keywords,
+                    answerTokens.size());
+        }
+
+        SparseVector vector(String normalized) {
+            Map<Integer, Double> weights = new HashMap<>();
+            double squaredNorm = 0.0;
+            for (Map.Entry<String, Integer> entry : features(normalized).entrySet()) {
+                double tf = 1.0 + Math.log(entry.getValue());
+                Integer id = featureIds.get(entry.getKey());
+                double weight = tf * (id != null ? idf[id] : unknownIdf);
+                squaredNorm += weight * weight;
+                // 사전에 없는 특징은 내적에는 기여하지 않고 크기에만 반영
+                if (id != null) {
+                    weights.put(id, weight);
+                }
+            }
+            return new SparseVector(weights, Math.sqrt(squaredNorm));
+        }
+
+        private double idfOf(String feature) {
+            Integer id = featureIds.get(feature);
+            return id != null ? idf[id] : unknownIdf;
+        }
+    }
+
+    private record SparseVector(Map<Integer, Double> weights, double norm) {
+
+        double cosine(SparseVector other) {
+            if (norm == 0.0 || other.norm == 0.0) {
+                return 0.0;
+            }
+            Map<Integer, Double> smaller = weights.size() <= other.weights.size() ? weights : other.weights;
+            Map<Integer, Double> larger = smaller == weights ? other.weights : weights;
+
+            double dot = 0.0;
+            for (Map.Entry<Integer, Double> entry : smaller.entrySet()) {
+                Double weight = larger.get(entry.getKey());
+                if (weight != null) {
+                    dot += entry.getValue() * weight;
+                }
+            }
+            return dot / (norm * other.norm);
+        }
+    }
+}
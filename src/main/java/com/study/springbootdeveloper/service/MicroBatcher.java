@@ -0,0 +1,182 @@
+package com.study.springbootdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 창(window) 동안 들어온 요청을 모아 한 번에 처리하는 배치 처리기
+ * 배치 핸들러는 입력과 같은 순서로 결과를 반환하며, 결과가 null인 항목은 실패로 처리
+ */
+@Slf4j
+public class MicroBatcher<I, O> {
+
+    private final String name;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Function<List<I>, List<O>> batchHandler;
+
+    private final BlockingQueue<PendingItem<I, O>> queue;
+    private final ExecutorService dispatchExecutor;
+    private final Thread collector;
+    private volatile boolean running = true;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder items = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final AtomicLongArray sizeHistogram;
+
+    public MicroBatcher(String name, Duration window, int maxBatchSize, int maxQueueSize, int dispatchConcurrency,
+                        Function<List<I>, List<O>> batchHandler) {
+        this.name = name;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchHandler = batchHandler;
+        this.queue = new LinkedBlockingQueue<>(maxQueueSize);
+        this.sizeHistogram = new AtomicLongArray(maxBatchSize + 1);
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.dispatchExecutor = Executors.newFixedThreadPool(dispatchConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, name + "-dispatch-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.collector = new Thread(this::collectLoop, name + "-collector");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    /**
+     * 항목을 배치 대기열에 등록하고 결과 Future 반환
+     */
+    public CompletableFuture<O> submit(I item) {
+        CompletableFuture<O> future = new CompletableFuture<>();
+        if (!running || !queue.offer(new PendingItem<>(item, future))) {
+            future.completeExceptionally(new RejectedExecutionException(name + " batch queue is full or closed"));
+        }
+        return future;
+    }
+
+    private void collectLoop() {
+        while (running) {
+            try {
+                PendingItem<I, O> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // 첫 항목 도착 시점부터 window 동안, 최대 maxBatchSize개까지 수집
+                List<PendingItem<I, O>> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingItem<I, O> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void dispatch(List<PendingItem<I, O>> batch) {
+        batches.increment();
+        items.add(batch.size());
+        sizeHistogram.incrementAndGet(batch.size());
+
+        try {
+            dispatchExecutor.execute(() -> handle(batch));
+        } catch (RejectedExecutionException e) {
+            failedBatches.increment();
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    private void handle(List<PendingItem<I, O>> batch) {
+        try {
+            List<I> inputs = batch.stream().map(PendingItem::item).toList();
+            List<O> results = batchHandler.apply(inputs);
+
+            if (results == null || results.size() != batch.size()) {
+                throw new IllegalStateException(name + " batch handler returned "
+                        + (results == null ? "null" : results.size()) + " results for " + batch.size() + " items");
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                O result = results.get(i);
+                if (result != null) {
+                    batch.get(i).future().complete(result);
+                } else {
+                    batch.get(i).future().completeExceptionally(
+                            new IllegalStateException(name + " batch result missing for item " + i));
+                }
+            }
+        } catch (Exception e) {
+            failedBatches.increment();
+            log.warn("{} batch of {} items failed: {}", name, batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        collector.interrupt();
+        dispatchExecutor.shutdown();
+
+        List<PendingItem<I, O>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future()
+                .completeExceptionally(new RejectedExecutionException(name + " batcher is shut down")));
+    }
+
+    public Stats stats() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int size = 1; size <= maxBatchSize; size++) {
+            histogram.put(size, sizeHistogram.get(size));
+        }
+        return new Stats(maxBatchSize, batches.sum(), items.sum(), failedBatches.sum(), queue.size(), histogram);
+    }
+
+    private record PendingItem<I, O>(I item, CompletableFuture<O> future) {
+    }
+
+    public record Stats(int maxBatchSize, long batches, long items, long failedBatches, int queueDepth,
+                        Map<Integer, Long> sizeHistogram) {
+
+        public double averageBatchSize() {
+            return batches == 0 ? 0.0 : (double) items / batches;
+        }
+
+        // 배치 채움률: 평균 배치 크기 / 최대 배치 크기
+        public double averageFillRatio() {
+            return maxBatchSize == 0 ? 0.0 : averageBatchSize() / maxBatchSize;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.Problem;
+import com.study.springbootdeveloper.domain.ProblemChoiceStats;
+import com.study.springbootdeveloper.domain.ProblemStats;
+import com.study.springbootdeveloper.domain.SolvedProblem;
+import com.study.springbootdeveloper.event.ProblemChangedEvent;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.repository.ProblemChoiceStatsRepository;
+import com.study.springbootdeveloper.repository.ProblemRepository;
+import com.study.springbootdeveloper.repository.ProblemStatsRepository;
+import com.study.springbootdeveloper.repository.SolvedProblemRepository;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.ErrorCode;
+import com.study.springbootdeveloper.type.GradingStatus;
+import com.study.springbootdeveloper.type.ProblemType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 문제별 풀이 분석 집계
+ * - 인기 문제의 집계 행을 모든 채점이 잠그지 않도록, 커밋된 채점만 메모리에 문제/선택지별로 모아
+ *   flush-interval-ms마다 한 번에 반영 (분석 조회는 최대 그 주기만큼 늦게 반영됨)
+ * - 선택지 집계는 문제의 선택지와 일치하는 답안만 셈 (임의 입력으로 행이 늘어나지 않도록)
+ * - 조회는 문제당 집계 행 1개 + 선택지 행 몇 개만 읽음 (풀이 이력 크기와 무관)
+ * - 재계산 작업: solved_problem 이력에서 문제 단위 트랜잭션으로 다시 계산 (백필/보정)
+ */
+@Slf4j
+@Service
+public class ProblemAnalyticsService {
+
+    private static final int MAX_LIST_SIZE = 100;
+
+    private final ProblemStatsRepository problemStatsRepository;
+    private final ProblemChoiceStatsRepository problemChoiceStatsRepository;
+    private final ProblemRepository problemRepository;
+    private final SolvedProblemRepository solvedProblemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 재계산은 단일 스레드에서 한 번에 하나만 실행
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+    private final AtomicLong lastRebuildProblems = new AtomicLong();
+    private final AtomicLong lastRebuildMs = new AtomicLong();
+
+    // 아직 DB에 반영하지 않은 집계 (문제 → 합계, 문제+선택지 → 선택 수), 반영/정리는 pendingLock으로 직렬화
+    private final ConcurrentHashMap<Long, Totals> pendingStats = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ChoiceKey, ChoiceDelta> pendingChoices = new ConcurrentHashMap<>();
+    private final Object pendingLock = new Object();
+
+    public ProblemAnalyticsService(ProblemStatsRepository problemStatsRepository,
+                                   ProblemChoiceStatsRepository problemChoiceStatsRepository,
+                                   ProblemRepository problemRepository,
+                                   SolvedProblemRepository solvedProblemRepository,
+                                   TransactionTemplate transactionTemplate) {
+        this.problemStatsRepository = problemStatsRepository;
+        this.problemChoiceStatsRepository = problemChoiceStatsRepository;
+        this.problemRepository = problemRepository;
+        this.solvedProblemRepository = solvedProblemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "problem-analytics-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 채점 완료 1건 반영 (호출한 쪽의 트랜잭션에 참여, 커밋 후 메모리에 모아 두었다가 주기적으로 반영)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordGraded(SolvedProblem solvedProblem) {
+        Problem problem = solvedProblem.getProblem();
+        Long problemId = problem.getId();
+        Integer score = solvedProblem.getScore();
+        Totals totals = new Totals(1,
+                Boolean.TRUE.equals(solvedProblem.getIsCorrect()) ? 1 : 0,
+                score != null ? 1 : 0,
+                score != null ? score : 0);
+
+        String answer = problem.getProblemType() == ProblemType.MULTIPLE_CHOICE && solvedProblem.getUserAnswer() != null
+                && ChoiceExplanationService.isChoiceOf(problem, solvedProblem.getUserAnswer())
+                ? solvedProblem.getUserAnswer().trim() : null;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendingStats.merge(problemId, totals, Totals::plus);
+                if (answer != null) {
+                    pendingChoices.merge(new ChoiceKey(problemId, ChoiceExplanationService.choiceHash(answer)),
+                            new ChoiceDelta(answer, 1), ChoiceDelta::plus);
+                }
+            }
+        });
+    }
+
+    /**
+     * 메모리에 모인 집계를 DB에 반영 (문제/선택지별 1행 갱신)
+     * 반영에 실패하면 다음 주기에 다시 시도하도록 되돌려 둠
+     */
+    @Scheduled(fixedDelayString = "${statistics.problem-analytics.flush-interval-ms:5000}")
+    public void flush() {
+        synchronized (pendingLock) {
+            Map<Long, Totals> stats = new LinkedHashMap<>();
+            for (Long problemId : pendingStats.keySet()) {
+                Totals totals = pendingStats.remove(problemId);
+                if (totals != null) {
+                    stats.put(problemId, totals);
+                }
+            }
+            Map<ChoiceKey, ChoiceDelta> choices = new LinkedHashMap<>();
+            for (ChoiceKey key : pendingChoices.keySet()) {
+                ChoiceDelta delta = pendingChoices.remove(key);
+                if (delta != null) {
+                    choices.put(key, delta);
+                }
+            }
+            if (stats.isEmpty() && choices.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    stats.forEach((problemId, totals) -> problemStatsRepository.add(problemId,
+                            totals.attempts(), totals.correct(), totals.scored(), totals.scoreSum()));
+                    choices.forEach((key, delta) -> problemChoiceStatsRepository.add(key.problemId(),
+                            key.choiceHash(), delta.choiceText(), delta.count()));
+                });
+            } catch (RuntimeException e) {
+                stats.forEach((problemId, totals) -> pendingStats.merge(problemId, totals, Totals::plus));
+                choices.forEach((key, delta) -> pendingChoices.merge(key, delta, ChoiceDelta::plus));
+                log.warn("Problem analytics flush failed, will retry: problems={}, choices={}, reason={}",
+                        stats.size(), choices.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 문제 한 개의 분석 조회
+     */
+    @Transactional(readOnly = true)
+    public ProblemAnalytics getAnalytics(Long problemId) {
+        Problem problem = problemRepository.findById(problemId)
+                .orElseThrow(() -> new RestApiException(ErrorCode.PROBLEM_NOT_FOUND));
+        ProblemStats stats = problemStatsRepository.findByProblemId(problemId).orElse(null);
+
+        Totals totals = stats != null
+                ? new Totals(stats.getAttempts(), stats.getCorrectCount(), stats.getScoredCount(), stats.getScoreSum())
+                : Totals.EMPTY;
+
+        String answerHash = ChoiceExplanationService.choiceHash(problem.getAnswer());
+        List<ChoiceCount> choices = problemChoiceStatsRepository.findByProblemIdOrderByChosenCountDesc(problemId).stream()
+                .map(row -> new ChoiceCount(row.getChoiceText(), row.getChosenCount(),
+                        answerHash.equals(row.getChoiceHash())))
+                .toList();
+
+        return new ProblemAnalytics(problem.getId(), problem.getCategory(), problem.getDifficulty(),
+                problem.getProblemType(), problem.getQuestion(), totals, choices);
+    }
+
+    /**
+     * 어려운(정답률 낮은) 또는 쉬운(정답률 높은) 문제 목록
+     *
+     * @param minAttempts 이보다 풀이 수가 적은 문제는 제외 (표본이 적어 정답률이 튀는 문제 배제)
+     */
+    @Transactional(readOnly = true)
+    public List<ProblemStatsRepository.ProblemAnalyticsRow> getRanking(boolean hardest, Category category,
+                                                                        DifficultyType difficulty,
+                                                                        long minAttempts, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIST_SIZE)));
+        long min = Math.max(1, minAttempts);
+        return hardest
+                ? problemStatsRepository.findHardest(min, category, difficulty, page)
+                : problemStatsRepository.findEasiest(min, category, difficulty, page);
+    }
+
+    /**
+     * 특정 문제의 집계를 이력에서 다시 계산
+     */
+    @Transactional
+    public void rebuildProblem(Long problemId) {
+        // 메모리에 모인 채점은 이미 커밋되어 이력에 포함되므로 버림
+        discardPending(problemId);
+        problemStatsRepository.deleteByProblemId(problemId);
+        problemChoiceStatsRepository.deleteByProblemId(problemId);
+        problemStatsRepository.insertFromHistory(problemId);
+
+        Problem problem = problemRepository.findById(problemId).orElse(null);
+        if (problem == null || problem.getProblemType() != ProblemType.MULTIPLE_CHOICE) {
+            return;
+        }
+
+        // 공백/대소문자만 다른 답안은 같은 선택지로 합침
+        Map<String, String> texts = new LinkedHashMap<>();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (SolvedProblemRepository.AnswerCount row
+                : solvedProblemRepository.countAnswersByProblemId(problemId, GradingStatus.COMPLETED)) {
+            if (row.getUserAnswer() == null || !ChoiceExplanationService.isChoiceOf(problem, row.getUserAnswer())) {
+                continue;
+            }
+            String answer = row.getUserAnswer().trim();
+            String hash = ChoiceExplanationService.choiceHash(answer);
+            texts.putIfAbsent(hash, answer);
+            counts.merge(hash, row.getChosenCount(), Long::sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        problemChoiceStatsRepository.saveAll(counts.entrySet().stream()
+                .map(entry -> ProblemChoiceStats.builder()
+                        .problemId(problemId)
+                        .choiceHash(entry.getKey())
+                        .choiceText(texts.get(entry.getKey()))
+                        .chosenCount(entry.getValue())
+                        .updatedAt(now)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 전체 재계산 예약 (이미 예약/실행 중이면 합쳐짐)
+     *
+     * @return 새로 예약했으면 true
+     */
+    public boolean requestRebuild() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuildAll();
+                } catch (Exception e) {
+                    log.error("Problem analytics rebuild failed", e);
+                } finally {
+                    rebuildPending.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rebuildPending.set(false);
+            return false;
+        }
+    }
+
+    /**
+     * 주기적 전체 재계산 (누락/불일치 보정)
+     */
+    @Scheduled(cron = "${statistics.problem-analytics.rebuild-cron:0 45 4 * * *}")
+    public void scheduleRebuild() {
+        requestRebuild();
+    }
+
+    /**
+     * 문제 삭제 커밋 이후 해당 문제의 집계 정리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        if (event.changeType() == ProblemChangedEvent.ChangeType.DELETED) {
+            discardPending(event.problemId());
+            transactionTemplate.executeWithoutResult(status -> {
+                problemStatsRepository.deleteByProblemId(event.problemId());
+                problemChoiceStatsRepository.deleteByProblemId(event.problemId());
+            });
+        }
+    }
+
+    public RebuildStats rebuildStats() {
+        return new RebuildStats(rebuildPending.get(), lastRebuildProblems.get(), lastRebuildMs.get());
+    }
+
+    private void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        List<Long> problemIds = problemRepository.findAllIds();
+        for (Long problemId : problemIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuildProblem(problemId));
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        lastRebuildProblems.set(problemIds.size());
+        lastRebuildMs.set(elapsed);
+        log.info("Problem analytics rebuilt: problems={}, elapsedMs={}", problemIds.size(), elapsed);
+    }
+
+    private void discardPending(Long problemId) {
+        synchronized (pendingLock) {
+            pendingStats.remove(problemId);
+            pendingChoices.keySet().removeIf(key -> key.problemId().equals(problemId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+        flush();
+    }
+
+    /**
+     * 풀이 수/정답 수/점수 합 (점수가 없는 기록은 평균 점수에서 제외)
+     */
+    public record Totals(long attempts, long correct, long scored, long scoreSum) {
+
+        static final Totals EMPTY = new Totals(0, 0, 0, 0);
+
+        Totals plus(Totals other) {
+            return new Totals(attempts + other.attempts, correct + other.correct,
+                    scored + other.scored, scoreSum + other.scoreSum);
+        }
+
+        public double accuracy() {
+            return attempts > 0 ? (correct * 100.0) / attempts : 0.0;
+        }
+
+        public double averageScore() {
+            return scored > 0 ? (double) scoreSum / scored : 0.0;
+        }
+    }
+
+    /**
+     * @param answer 정답 선택지인지
+     */
+    public record ChoiceCount(String choice, long count, boolean answer) {
+    }
+
+    public record ProblemAnalytics(Long problemId, Category category, DifficultyType difficulty,
+                                   ProblemType problemType, String question, Totals totals,
+                                   List<ChoiceCount> choices) {
+    }
+
+    private record ChoiceKey(Long problemId, String choiceHash) {
+    }
+
+    private record ChoiceDelta(String choiceText, long count) {
+
+        ChoiceDelta plus(ChoiceDelta other) {
+            return new ChoiceDelta(choiceText, count + other.count);
+        }
+    }
+
+    public record RebuildStats(boolean running, long lastRebuildProblems, long lastRebuildMs) {
+    }
+}
@@ -5,13 +5,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.springbootdeveloper.domain.Problem;
 import com.study.springbootdeveloper.dto.request.CreateProblemRequest;
 import com.study.springbootdeveloper.dto.request.UpdateProblemRequest;
+import com.study.springbootdeveloper.event.ProblemChangedEvent;
 import com.study.springbootdeveloper.handler.RestApiException;
 import com.study.springbootdeveloper.repository.ProblemRepository;
 import com.study.springbootdeveloper.repository.SolvedProblemRepository;
 import com.study.springbootdeveloper.type.Category;
 import com.study.springbootdeveloper.type.DifficultyType;
 import com.study.springbootdeveloper.type.ErrorCode;
+import com.study.springbootdeveloper.type.GradingStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,11 +29,16 @@ public class ProblemService {
 
     private final ProblemRepository problemRepository;
     private final SolvedProblemRepository solvedProblemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DashboardSnapshotService dashboardSnapshotService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public ProblemService(ProblemRepository problemRepository, SolvedProblemRepository solvedProblemRepository) {
+    public ProblemService(ProblemRepository problemRepository, SolvedProblemRepository solvedProblemRepository,
+                          ApplicationEventPublisher eventPublisher, DashboardSnapshotService dashboardSnapshotService) {
         this.problemRepository = problemRepository;
         this.solvedProblemRepository = solvedProblemRepository;
+        this.eventPublisher = eventPublisher;
+        this.dashboardSnapshotService = dashboardSnapshotService;
     }
 
     // ==================== 기존 메서드들 ====================
@@ -60,7 +68,7 @@ public class ProblemService {
         if (userId == null) {
             return false;
         }
-        return solvedProblemRepository.existsByUserIdAndProblemId(userId, problemId);
+        return solvedProblemRepository.existsActiveByUserIdAndProblemId(userId, problemId, GradingStatus.FAILED);
     }
 
     public long countByCategory(Category category) {
@@ -110,6 +118,8 @@ public class ProblemService {
                 .build();
 
         Problem saved = problemRepository.save(problem);
+        dashboardSnapshotService.problemCreated(saved.getCategory(), saved.getDifficulty());
+        eventPublisher.publishEvent(new ProblemChangedEvent(saved.getId(), ProblemChangedEvent.ChangeType.CREATED));
         log.info("Problem created successfully: id={}", saved.getId());
         return saved;
     }
@@ -122,6 +132,8 @@ public class ProblemService {
         log.info("Updating problem: id={}", problemId);
 
         Problem problem = getProblemById(problemId);
+        Category previousCategory = problem.getCategory();
+        DifficultyType previousDifficulty = problem.getDifficulty();
 
         // Null이 아닌 필드만 업데이트 (Partial Update)
         if (request.getProblemType() != null) {
@@ -153,6 +165,9 @@ public class ProblemService {
         }
 
         Problem updated = problemRepository.save(problem);
+        dashboardSnapshotService.problemMoved(previousCategory, previousDifficulty,
+                updated.getCategory(), updated.getDifficulty());
+        eventPublisher.publishEvent(new ProblemChangedEvent(updated.getId(), ProblemChangedEvent.ChangeType.UPDATED));
         log.info("Problem updated successfully: id={}", updated.getId());
         return updated;
     }
@@ -166,6 +181,8 @@ public class ProblemService {
 
         Problem problem = getProblemById(problemId);
         problemRepository.delete(problem);
+        dashboardSnapshotService.problemDeleted(problem.getCategory(), problem.getDifficulty());
+        eventPublisher.publishEvent(new ProblemChangedEvent(problemId, ProblemChangedEvent.ChangeType.DELETED));
 
         log.info("Problem deleted successfully: id={}", problemId);
     }
@@ -181,38 +198,14 @@ public class ProblemService {
      * 문제 통계 조회 (관리자 전용)
      */
     public Map<String, Object> getProblemStatistics() {
-        Map<String, Object> statistics = new HashMap<>();
-
-        // 전체 문제 수
-        long totalCount = problemRepository.count();
-        statistics.put("totalCount", totalCount);
-
-        // 카테고리별 개수
-        Map<String, Long> categoryStats = new HashMap<>();
-        for (Category category : Category.values()) {
-            categoryStats.put(category.name(), problemRepository.countByCategory(category));
-        }
-        statistics.put("byCategory", categoryStats);
+        // 대시보드 스냅샷에서 읽음 (DB 조회 없음)
+        DashboardSnapshotService.Snapshot snapshot = dashboardSnapshotService.snapshot();
 
-        // 난이도별 개수
-        Map<String, Long> difficultyStats = new HashMap<>();
-        for (DifficultyType difficulty : DifficultyType.values()) {
-            long count = problemRepository.findByDifficulty(difficulty).size();
-            difficultyStats.put(difficulty.name(), count);
-        }
-        statistics.put("byDifficulty", difficultyStats);
-
-        // 카테고리 + 난이도 조합별 개수
-        Map<String, Map<String, Long>> categoryDifficultyStats = new HashMap<>();
-        for (Category category : Category.values()) {
-            Map<String, Long> diffStats = new HashMap<>();
-            for (DifficultyType difficulty : DifficultyType.values()) {
-                long count = problemRepository.countByCategoryAndDifficulty(category, difficulty);
-                diffStats.put(difficulty.name(), count);
-            }
-            categoryDifficultyStats.put(category.name(), diffStats);
-        }
-        statistics.put("byCategoryAndDifficulty", categoryDifficultyStats);
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalCount", snapshot.totalProblems());
+        statistics.put("byCategory", snapshot.problemsByCategory());
+        statistics.put("byDifficulty", snapshot.problemsByDifficulty());
+        statistics.put("byCategoryAndDifficulty", snapshot.problemsByCategoryAndDifficulty());
 
         return statistics;
     }
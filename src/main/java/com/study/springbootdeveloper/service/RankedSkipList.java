@@ -0,0 +1,230 @@
+package com.study.springbootdeveloper.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 점수 순위용 스킵 리스트 (점수 내림차순, 같은 점수는 member 오름차순)
+ * - 각 링크에 건너뛰는 노드 수(span)를 함께 저장해 삽입/삭제/순위 조회/순위로 조회 모두 O(log n)
+ * - member별 현재 점수는 별도 맵으로 관리 (점수 변경 = 기존 노드 삭제 후 재삽입)
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 잠금)
+ */
+public class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(MAX_LEVEL, 0, 0);
+    private final Map<Long, Long> scores = new HashMap<>();
+    private int level = 1;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public Long score(long member) {
+        return scores.get(member);
+    }
+
+    /**
+     * 점수 설정 (없으면 추가)
+     */
+    public void put(long member, long score) {
+        Long previous = scores.put(member, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            delete(previous, member);
+        }
+        insert(score, member);
+    }
+
+    /**
+     * 점수 증감 (없으면 0점에서 시작)
+     */
+    public long add(long member, long delta) {
+        Long previous = scores.get(member);
+        long score = (previous != null ? previous : 0L) + delta;
+        put(member, score);
+        return score;
+    }
+
+    public boolean remove(long member) {
+        Long previous = scores.remove(member);
+        if (previous == null) {
+            return false;
+        }
+        delete(previous, member);
+        return true;
+    }
+
+    public void clear() {
+        scores.clear();
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.forward[i] = null;
+            head.span[i] = 0;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * 1부터 시작하는 순위 (없으면 0)
+     */
+    public int rank(long member) {
+        Long score = scores.get(member);
+        if (score == null) {
+            return 0;
+        }
+        Node x = head;
+        int rank = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && !after(x.forward[i], score, member)) {
+                rank += x.span[i];
+                x = x.forward[i];
+            }
+            if (x != head && x.member == member) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * offset번째(0부터)부터 limit개
+     */
+    public List<Entry> range(int offset, int limit) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return entries;
+        }
+        int rank = offset + 1;
+        Node x = nodeAt(rank);
+        while (x != null && entries.size() < limit) {
+            entries.add(new Entry(rank++, x.member, x.score));
+            x = x.forward[0];
+        }
+        return entries;
+    }
+
+    private Node nodeAt(int rank) {
+        Node x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.forward[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private void insert(long score, long member) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.forward[i] != null && before(x.forward[i], score, member)) {
+                rank[i] += x.span[i];
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        x = new Node(nodeLevel, score, member);
+        for (int i = 0; i < nodeLevel; i++) {
+            x.forward[i] = update[i].forward[i];
+            update[i].forward[i] = x;
+            x.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    private void delete(long score, long member) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && before(x.forward[i], score, member)) {
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        x = x.forward[0];
+        if (x == null || x.score != score || x.member != member) {
+            return;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].forward[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].forward[i] = x.forward[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.forward[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    // node가 (score, member)보다 앞 순위인지
+    private static boolean before(Node node, long score, long member) {
+        return node.score > score || (node.score == score && node.member < member);
+    }
+
+    // node가 (score, member)보다 뒤 순위인지
+    private static boolean after(Node node, long score, long member) {
+        return node.score < score || (node.score == score && node.member > member);
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    private static final class Node {
+        private final long score;
+        private final long member;
+        private final Node[] forward;
+        private final int[] span;
+
+        private Node(int level, long score, long member) {
+            this.score = score;
+            this.member = member;
+            this.forward = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    public record Entry(int rank, long member, long score) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.study.springbootdeveloper.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간 리더보드 (최근 bucketCount개 구간의 점수 합계 순위)
+ * - 구간별 사용자 점수를 링 버퍼에 보관하고, 합계는 스킵 리스트로 유지
+ * - 시간이 지나면 가장 오래된 구간의 점수만 합계에서 빼고 그 칸을 새 구간으로 재사용 (이력 재조회 없음)
+ * - 전체 구간에 보관하는 (사용자, 구간) 항목 수는 maxEntries로 제한, 초과분은 버리고 dropped로 집계
+ * - 구간 번호 = epoch 기준 시(hour) / bucketHours
+ * - 모든 메서드는 이 객체로 동기화
+ */
+public class RollingLeaderboard {
+
+    private final int bucketHours;
+    private final int maxEntries;
+
+    private final Map<Long, Long>[] buckets;
+    private final RankedSkipList board = new RankedSkipList();
+    private long newestBucket = Long.MIN_VALUE;
+    private int entries;
+    private long dropped;
+
+    @SuppressWarnings("unchecked")
+    public RollingLeaderboard(int bucketCount, int bucketHours, int maxEntries) {
+        this.bucketHours = bucketHours;
+        this.maxEntries = maxEntries;
+        this.buckets = new Map[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new HashMap<>();
+        }
+    }
+
+    /**
+     * epochHour 시점의 점수 반영 (이미 창 밖으로 밀려난 구간이면 무시)
+     */
+    public synchronized void add(long userId, long epochHour, long score) {
+        long bucket = Math.floorDiv(epochHour, bucketHours);
+        advanceTo(bucket);
+        if (bucket <= newestBucket - buckets.length) {
+            return;
+        }
+
+        Map<Long, Long> scores = buckets[slot(bucket)];
+        if (!scores.containsKey(userId)) {
+            if (entries >= maxEntries) {
+                dropped++;
+                return;
+            }
+            entries++;
+        }
+        scores.merge(userId, score, Long::sum);
+        board.add(userId, score);
+    }
+
+    /**
+     * 현재 시각까지 창을 앞으로 이동 (지나간 구간 제거)
+     */
+    public synchronized void roll(long epochHour) {
+        advanceTo(Math.floorDiv(epochHour, bucketHours));
+    }
+
+    public synchronized void removeUser(long userId) {
+        for (Map<Long, Long> scores : buckets) {
+            if (scores.remove(userId) != null) {
+                entries--;
+            }
+        }
+        board.remove(userId);
+    }
+
+    public synchronized List<RankedSkipList.Entry> range(int offset, int limit) {
+        return board.range(offset, limit);
+    }
+
+    public synchronized int rank(long userId) {
+        return board.rank(userId);
+    }
+
+    public synchronized Long score(long userId) {
+        return board.score(userId);
+    }
+
+    public synchronized int size() {
+        return board.size();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(board.size(), entries, maxEntries, dropped);
+    }
+
+    private void advanceTo(long bucket) {
+        if (bucket <= newestBucket) {
+            return;
+        }
+        if (newestBucket == Long.MIN_VALUE || bucket - newestBucket >= buckets.length) {
+            clear();
+        } else {
+            for (long expired = newestBucket + 1; expired <= bucket; expired++) {
+                expire(slot(expired));
+            }
+        }
+        newestBucket = bucket;
+    }
+
+    /**
+     * 칸에 남아 있던 (가장 오래된) 구간 점수를 합계에서 빼고, 다른 구간에 기록이 없는 사용자는 순위에서 제외
+     */
+    private void expire(int slot) {
+        Map<Long, Long> scores = buckets[slot];
+        if (scores.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<Long, Long> entry : scores.entrySet()) {
+            long userId = entry.getKey();
+            if (presentElsewhere(userId, slot)) {
+                board.add(userId, -entry.getValue());
+            } else {
+                board.remove(userId);
+            }
+        }
+        entries -= scores.size();
+        scores.clear();
+    }
+
+    private boolean presentElsewhere(long userId, int exceptSlot) {
+        for (int i = 0; i < buckets.length; i++) {
+            if (i != exceptSlot && buckets[i].containsKey(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void clear() {
+        for (Map<Long, Long> scores : buckets) {
+            scores.clear();
+        }
+        board.clear();
+        entries = 0;
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+
+    /**
+     * @param users    현재 창 안에 점수가 있는 사용자 수
+     * @param entries  보관 중인 (사용자, 구간) 항목 수
+     * @param dropped  maxEntries 초과로 버린 점수 반영 수
+     */
+    public record Stats(int users, int entries, int maxEntries, long dropped) {
+    }
+}
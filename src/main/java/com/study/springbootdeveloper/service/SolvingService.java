@@ -4,17 +4,32 @@ import com.study.springbootdeveloper.domain.Problem;
 import com.study.springbootdeveloper.domain.Session;
 import com.study.springbootdeveloper.domain.SolvedProblem;
 import com.study.springbootdeveloper.domain.User;
+import com.study.springbootdeveloper.dto.response.GradingResultDto;
+import com.study.springbootdeveloper.event.SubmissionGradedEvent;
 import com.study.springbootdeveloper.handler.RestApiException;
 import com.study.springbootdeveloper.repository.ProblemRepository;
 import com.study.springbootdeveloper.repository.SessionRepository;
 import com.study.springbootdeveloper.repository.SolvedProblemRepository;
 import com.study.springbootdeveloper.repository.UserRepository;
 import com.study.springbootdeveloper.type.ErrorCode;
+import com.study.springbootdeveloper.type.GradingStatus;
 import com.study.springbootdeveloper.type.ProblemType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
 @Slf4j
 @Service
 @Transactional
@@ -25,106 +40,254 @@ public class SolvingService {
     private final UserRepository userRepository;
     private final SessionRepository sessionRepository;
     private final GeminiApiService geminiApiService;
+    private final ChoiceExplanationService choiceExplanationService;
+    private final UserStatsCounterService userStatsCounterService;
+    private final ProblemAnalyticsService problemAnalyticsService;
+    private final ActivityRollupService activityRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long pendingTimeoutMs;
+
+    // 이 서버에서 예약 후 아직 채점 결과가 반영되지 않은 제출 (채점 대기열에 있거나 채점 중, 만료 정리 대상에서 제외)
+    private final Set<Long> activeSubmissions = ConcurrentHashMap.newKeySet();
 
     public SolvingService(SolvedProblemRepository solvedProblemRepository, ProblemRepository problemRepository,
                           UserRepository userRepository, SessionRepository sessionRepository,
-                          GeminiApiService geminiApiService) {
+                          GeminiApiService geminiApiService, ChoiceExplanationService choiceExplanationService,
+                          UserStatsCounterService userStatsCounterService,
+                          ProblemAnalyticsService problemAnalyticsService,
+                          ActivityRollupService activityRollupService,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${grading.pending-timeout-ms:600000}") long pendingTimeoutMs) {
         this.solvedProblemRepository = solvedProblemRepository;
         this.problemRepository = problemRepository;
         this.userRepository = userRepository;
         this.sessionRepository = sessionRepository;
         this.geminiApiService = geminiApiService;
+        this.choiceExplanationService = choiceExplanationService;
+        this.userStatsCounterService = userStatsCounterService;
+        this.problemAnalyticsService = problemAnalyticsService;
+        this.activityRollupService = activityRollupService;
+        this.eventPublisher = eventPublisher;
+        this.pendingTimeoutMs = pendingTimeoutMs;
     }
 
     /*
-     답안 제출 및 채점 (자유 선택 모드)
+     채점 (객관식: 정답 비교 + 미리 생성된 보충 설명, 단답형/서술형: Gemini 채점)
+     외부 API 호출이 포함되므로 트랜잭션 밖에서 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GradingResultDto grade(Problem problem, String userAnswer) {
+        if (problem.getProblemType() == ProblemType.MULTIPLE_CHOICE) {
+            // 객관식: 정확히 일치하는지 확인
+            boolean isCorrect = problem.getAnswer().trim().equalsIgnoreCase(userAnswer.trim());
+
+            // 선택지별로 미리 생성된 보충 설명 사용 (제출 시 Gemini 호출 없음)
+            return GradingResultDto.builder()
+                    .isCorrect(isCorrect)
+                    .score(isCorrect ? 100 : 0)
+                    .feedback(choiceExplanationService.getExplanation(problem, userAnswer))
+                    .build();
+        }
+
+        // 단답형/서술형: Gemini API로 채점
+        return geminiApiService.gradeAnswer(problem, userAnswer);
+    }
+
+    /*
+     스트리밍 채점 (단답형/서술형은 Gemini 응답 조각을 onToken으로 전달, 객관식은 설명 전체를 한 번에 전달)
+     중간에 기본 채점으로 바뀌면 onReset 호출 후 폴백 피드백을 다시 전달
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GradingResultDto gradeStreaming(Problem problem, String userAnswer,
+                                           Consumer<String> onToken, Runnable onReset) {
+        if (problem.getProblemType() == ProblemType.MULTIPLE_CHOICE) {
+            GradingResultDto gradingResult = grade(problem, userAnswer);
+            if (gradingResult.getFeedback() != null) {
+                onToken.accept(gradingResult.getFeedback());
+            }
+            return gradingResult;
+        }
+
+        return geminiApiService.streamGradeAnswer(problem, userAnswer, onToken, onReset);
+    }
+
+    // ==================== 제출 예약/결과 반영 (동기·비동기 공통) ====================
+
+    /*
+     제출 예약: 검증 후 PENDING 상태의 풀이 기록을 먼저 저장 (자유 선택 모드)
      */
-    public SolvedProblem submitAnswer(Long userId, Long problemId, String userAnswer, String guestId) {
+    public SolvedProblem reserveSubmission(Long userId, Long problemId, String userAnswer, String guestId) {
         User user = userId != null ? userRepository.findById(userId).orElse(null) : null;
         Problem problem = problemRepository.findById(problemId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.PROBLEM_NOT_FOUND));
 
-        // 로그인 사용자: 중복 제출 체크
-        if (userId != null && solvedProblemRepository.existsByUserIdAndProblemId(userId, problemId)) {
-            throw new RestApiException(ErrorCode.PROBLEM_ALREADY_SOLVED);
+        // 로그인 사용자: 중복 제출 체크 (채점 중인 기록 포함, 채점 실패 기록은 지우고 다시 제출 가능)
+        if (userId != null) {
+            if (solvedProblemRepository.existsActiveByUserIdAndProblemId(userId, problemId, GradingStatus.FAILED)) {
+                throw new RestApiException(ErrorCode.PROBLEM_ALREADY_SOLVED);
+            }
+            solvedProblemRepository.deleteByUserIdAndProblemIdAndStatus(userId, problemId, GradingStatus.FAILED);
         }
 
-        return processAnswer(user, problem, null, userAnswer, guestId);
+        SolvedProblem pending = SolvedProblem.builder()
+                .user(user)
+                .problem(problem)
+                .userAnswer(userAnswer)
+                .guestId(guestId)
+                .status(GradingStatus.PENDING)
+                .build();
+
+        return track(solvedProblemRepository.save(pending));
     }
 
     /*
-    세션 내 답안 제출 및 채점 (챌린지 모드)
+     세션 내 제출 예약: 검증 후 PENDING 상태의 풀이 기록을 먼저 저장 (챌린지 모드)
      */
-    public SolvedProblem submitAnswerInSession(Long sessionId, Long problemId, String userAnswer) {
+    public SolvedProblem reserveSessionSubmission(Long sessionId, Long problemId, String userAnswer) {
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.SESSION_NOT_FOUND));
 
         Problem problem = problemRepository.findById(problemId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.PROBLEM_NOT_FOUND));
 
-        // 세션 내에서 이미 푼 문제인지 확인
-        boolean alreadySolved = solvedProblemRepository.findBySessionId(sessionId).stream()
-                .anyMatch(sp -> sp.getProblem().getId().equals(problemId));
-
-        if (alreadySolved) {
+        // 세션 내에서 이미 푼 문제인지 확인 (채점 중인 기록 포함, 채점 실패 기록은 지우고 다시 제출 가능)
+        if (solvedProblemRepository.existsActiveBySessionIdAndProblemId(sessionId, problemId, GradingStatus.FAILED)) {
             throw new RestApiException(ErrorCode.PROBLEM_ALREADY_SOLVED);
         }
+        solvedProblemRepository.deleteBySessionIdAndProblemIdAndStatus(sessionId, problemId, GradingStatus.FAILED);
+
+        SolvedProblem pending = SolvedProblem.builder()
+                .user(session.getUser())
+                .problem(problem)
+                .session(session)
+                .userAnswer(userAnswer)
+                .status(GradingStatus.PENDING)
+                .build();
 
-        // 세션은 로그인 사용자만 사용 가능하므로 guestId는 null
-        SolvedProblem solvedProblem = processAnswer(session.getUser(), problem, session, userAnswer, null);
+        return track(solvedProblemRepository.save(pending));
+    }
 
-        // 정답이면 세션의 correctCount 증가
-        if (solvedProblem.getIsCorrect()) {
-            session.incrementCorrectCount();
+    /*
+     채점 결과 반영 (아직 PENDING인 경우에만)
+     채점 도중 기록이 실패 처리되었거나 재제출로 지워졌으면 반영하지 않고 빈 값 반환
+     */
+    public Optional<SolvedProblem> completeSubmission(Long solvedProblemId, GradingResultDto gradingResult) {
+        activeSubmissions.remove(solvedProblemId);
+        int updated = solvedProblemRepository.completeIfPending(solvedProblemId, GradingStatus.PENDING,
+                GradingStatus.COMPLETED, gradingResult.isCorrect(), gradingResult.getScore(), gradingResult.getFeedback());
+        if (updated == 0) {
+            log.warn("Grading result dropped, submission is no longer pending: solvedProblemId={}", solvedProblemId);
+            return Optional.empty();
         }
+        SolvedProblem solvedProblem = getSubmission(solvedProblemId);
 
-        return solvedProblem;
+        // 세션 내 제출이면 정답 시 correctCount 증가
+        if (solvedProblem.getSession() != null && gradingResult.isCorrect()) {
+            solvedProblem.getSession().incrementCorrectCount();
+        }
+
+        // 사용자 통계 카운터, 문제별 분석, 기간별 활동 집계도 같은 트랜잭션에서 증가
+        userStatsCounterService.recordGraded(solvedProblem);
+        problemAnalyticsService.recordGraded(solvedProblem);
+        activityRollupService.recordGraded(solvedProblem);
+
+        Long userId = solvedProblem.getUser() != null ? solvedProblem.getUser().getId() : null;
+        eventPublisher.publishEvent(new SubmissionGradedEvent(solvedProblemId, userId,
+                solvedProblem.getProblem().getId(), solvedProblem.getProblem().getCategory(),
+                gradingResult.isCorrect(), gradingResult.getScore(), solvedProblem.getSolvedAt()));
+
+        log.info("Answer graded: solvedProblemId={}, userId={}, isCorrect={}, score={}",
+                solvedProblemId,
+                userId != null ? userId : "guest",
+                gradingResult.isCorrect(),
+                gradingResult.getScore());
+
+        return Optional.of(solvedProblem);
     }
 
     /*
-     답안 처리 핵심 로직
+     비동기 채점 실패 처리 (아직 PENDING인 경우에만, 반영 여부 반환)
      */
-    private SolvedProblem processAnswer(User user, Problem problem, Session session, String userAnswer, String guestId) {
-        boolean isCorrect;
-        int score;
-        String aiFeedback;
+    public boolean failSubmission(Long solvedProblemId, String reason) {
+        activeSubmissions.remove(solvedProblemId);
+        boolean failed = solvedProblemRepository.failIfPending(List.of(solvedProblemId),
+                GradingStatus.PENDING, GradingStatus.FAILED, reason) > 0;
+        if (failed) {
+            log.warn("Async grading failed: solvedProblemId={}", solvedProblemId);
+        }
+        return failed;
+    }
 
-        if (problem.getProblemType() == ProblemType.MULTIPLE_CHOICE) {
-            // 객관식: 정확히 일치하는지 확인
-            isCorrect = problem.getAnswer().trim().equalsIgnoreCase(userAnswer.trim());
-            score = isCorrect ? 100 : 0;
-
-            // Gemini API로 보충 설명 생성
-            aiFeedback = geminiApiService.generateExplanation(problem, userAnswer, isCorrect);
-
-        } else {
-            // 단답형/서술형: Gemini API로 채점
-            var gradingResult = geminiApiService.gradeAnswer(problem, userAnswer);
-            isCorrect = gradingResult.isCorrect();
-            score = gradingResult.getScore();
-            aiFeedback = gradingResult.getFeedback();
+    /*
+     채점하지 못한 제출 기록 삭제 (재제출 가능하도록)
+     */
+    public void discardSubmission(Long solvedProblemId) {
+        activeSubmissions.remove(solvedProblemId);
+        solvedProblemRepository.deleteById(solvedProblemId);
+    }
+
+    /*
+     채점 시작 전 확인: 대기하는 동안 실패 처리되었거나 재제출로 지워진 기록이면 채점(Gemini 호출)하지 않음
+     */
+    @Transactional(readOnly = true)
+    public boolean isPending(Long solvedProblemId) {
+        boolean pending = solvedProblemRepository.existsByIdAndStatus(solvedProblemId, GradingStatus.PENDING);
+        if (!pending) {
+            activeSubmissions.remove(solvedProblemId);
         }
+        return pending;
+    }
 
-        // SolvedProblem 저장 (비로그인 시 user는 null, guestId는 저장)
-        SolvedProblem solvedProblem = SolvedProblem.builder()
-                .user(user)
-                .problem(problem)
-                .session(session)
-                .userAnswer(userAnswer)
-                .isCorrect(isCorrect)
-                .score(score)
-                .aiFeedback(aiFeedback)
-                .guestId(guestId)  // 비로그인 추적용 UUID
-                .build();
+    /*
+     채점 제한 시간이 지나도록 PENDING인 기록을 실패로 전환
+     (서버 종료로 버려진 채점 작업, 비정상 종료 등으로 결과가 영영 반영되지 않는 기록 → 다시 제출 가능하도록)
+     이 서버의 채점 대기열에 있거나 채점 중인 제출은 오래 기다렸더라도 제외
+     */
+    @Scheduled(fixedDelayString = "${grading.pending-sweep-interval-ms:60000}")
+    public void failStalePendingSubmissions() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(pendingTimeoutMs));
+        List<Long> stale = solvedProblemRepository.findPendingIdsBefore(GradingStatus.PENDING, cutoff).stream()
+                .filter(id -> !activeSubmissions.contains(id))
+                .toList();
+        if (stale.isEmpty()) {
+            return;
+        }
+        int failed = solvedProblemRepository.failIfPending(stale, GradingStatus.PENDING, GradingStatus.FAILED,
+                "채점 시간이 초과되었습니다. 다시 제출해주세요.");
+        if (failed > 0) {
+            log.warn("Stale pending submissions failed: count={}, cutoff={}", failed, cutoff);
+        }
+    }
+
+    private SolvedProblem track(SolvedProblem pending) {
+        activeSubmissions.add(pending.getId());
+        return pending;
+    }
+
+    /*
+     제출 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public SolvedProblem getSubmission(Long solvedProblemId) {
+        return solvedProblemRepository.findById(solvedProblemId)
+                .orElseThrow(() -> new RestApiException(ErrorCode.SOLVED_NOT_FOUND));
+    }
 
-        log.info("Answer processed: userId={}, problemId={}, isCorrect={}, score={}, guestId={}",
-                user != null ? user.getId() : "guest",
-                problem.getId(),
-                isCorrect,
-                score,
-                guestId);
+    /*
+     본인 제출 상태 조회 (로그인 제출은 JWT의 userId, 비로그인 제출은 guest_id 쿠키가 일치해야 함)
+     다른 사람의 제출이면 존재 여부도 드러내지 않도록 SOLVED_NOT_FOUND
+     */
+    @Transactional(readOnly = true)
+    public SolvedProblem getOwnSubmission(Long solvedProblemId, Long requesterId, String guestId) {
+        SolvedProblem solvedProblem = getSubmission(solvedProblemId);
 
-        return solvedProblemRepository.save(solvedProblem);
+        boolean owner = solvedProblem.getUser() != null
+                ? solvedProblem.getUser().getId().equals(requesterId)
+                : guestId != null && guestId.equals(solvedProblem.getGuestId());
+        if (!owner) {
+            throw new RestApiException(ErrorCode.SOLVED_NOT_FOUND);
+        }
+        return solvedProblem;
     }
 
     /*
@@ -4,67 +4,71 @@ import com.study.springbootdeveloper.domain.SolvedProblem;
 import com.study.springbootdeveloper.dto.response.CategoryStatsResponse;
 import com.study.springbootdeveloper.dto.response.OverallStatsResponse;
 import com.study.springbootdeveloper.dto.response.ProgressResponse;
+import com.study.springbootdeveloper.dto.response.SolvedProblemResponse;
 import com.study.springbootdeveloper.dto.response.WeakPointResponse;
+import com.study.springbootdeveloper.dto.response.WrongAnswerPageResponse;
+import com.study.springbootdeveloper.handler.RestApiException;
 import com.study.springbootdeveloper.repository.ProblemRepository;
 import com.study.springbootdeveloper.repository.SolvedProblemRepository;
+import com.study.springbootdeveloper.repository.UserProblemStatsRepository;
 import com.study.springbootdeveloper.type.Category;
 import com.study.springbootdeveloper.type.DifficultyType;
+import com.study.springbootdeveloper.type.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 학습 통계 / 오답 노트 조회
+ * 통계는 사용자별 캐시를 먼저 확인하고, 캐시에 없을 때만 읽기 전용 트랜잭션을 열어 집계 (캐시 적중 시 DB 커넥션 사용 안 함)
+ */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 public class StatisticsService {
 
+    private static final int MAX_WRONG_ANSWER_PAGE_SIZE = 100;
+
     private final SolvedProblemRepository solvedProblemRepository;
     private final ProblemRepository problemRepository;
+    private final UserProblemStatsRepository userProblemStatsRepository;
+    private final UserStatsCache userStatsCache;
+    private final TransactionTemplate readOnlyTransaction;
 
     public StatisticsService(SolvedProblemRepository solvedProblemRepository,
-                             ProblemRepository problemRepository) {
+                             ProblemRepository problemRepository,
+                             UserProblemStatsRepository userProblemStatsRepository,
+                             UserStatsCache userStatsCache,
+                             PlatformTransactionManager transactionManager) {
         this.solvedProblemRepository = solvedProblemRepository;
         this.problemRepository = problemRepository;
+        this.userProblemStatsRepository = userProblemStatsRepository;
+        this.userStatsCache = userStatsCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
      * 전체 통계 조회
      */
     public OverallStatsResponse getOverallStats(Long userId) {
-        // 전체 문제 수
-        long totalProblems = problemRepository.count();
-
-        // 푼 문제 수
-        List<SolvedProblem> solvedProblems = solvedProblemRepository.findByUserId(userId);
-        long solvedCount = solvedProblems.size();
-
-        // 정답/오답 개수
-        long correctCount = solvedProblems.stream()
-                .filter(SolvedProblem::getIsCorrect)
-                .count();
-        long incorrectCount = solvedCount - correctCount;
-
-        // 전체 정답률
-        double accuracy = solvedCount > 0
-                ? (correctCount * 100.0) / solvedCount
-                : 0.0;
-
-        // 평균 점수
-        double averageScore = solvedProblems.stream()
-                .mapToInt(SolvedProblem::getScore)
-                .average()
-                .orElse(0.0);
+        UserStatsAggregate.Cell overall = aggregate(userId).overall();
 
         return OverallStatsResponse.builder()
-                .totalProblems(totalProblems)
-                .solvedProblems(solvedCount)
-                .correctCount(correctCount)
-                .incorrectCount(incorrectCount)
-                .accuracy(Math.round(accuracy * 100.0) / 100.0)
-                .averageScore(Math.round(averageScore * 100.0) / 100.0)
+                .totalProblems(overall.totalProblems())
+                .solvedProblems(overall.solved())
+                .correctCount(overall.correct())
+                .incorrectCount(overall.solved() - overall.correct())
+                .accuracy(round(overall.accuracy()))
+                .averageScore(round(overall.averageScore()))
                 .build();
     }
 
@@ -72,53 +76,24 @@ public class StatisticsService {
      * 카테고리별 통계 조회
      */
     public List<CategoryStatsResponse> getCategoryStats(Long userId) {
+        UserStatsAggregate aggregate = aggregate(userId);
         List<CategoryStatsResponse> stats = new ArrayList<>();
 
         for (Category category : Category.values()) {
-            // 카테고리별 전체 문제 수
-            long totalProblems = problemRepository.countByCategory(category);
-
-            // 카테고리별 푼 문제들
-            List<SolvedProblem> solvedProblems =
-                    solvedProblemRepository.findByUserIdAndCategory(userId, category);
-
-            long solvedCount = solvedProblems.size();
-            long correctCount = solvedProblems.stream()
-                    .filter(SolvedProblem::getIsCorrect)
-                    .count();
-
-            double accuracy = solvedCount > 0
-                    ? (correctCount * 100.0) / solvedCount
-                    : 0.0;
+            UserStatsAggregate.Cell total = aggregate.category(category);
 
             // 난이도별 세부 통계
             Map<DifficultyType, ProgressResponse> difficultyStats = new HashMap<>();
             for (DifficultyType difficulty : DifficultyType.values()) {
-                long totalByDifficulty = problemRepository.countByCategoryAndDifficulty(category, difficulty);
-
-                List<SolvedProblem> solvedByDifficulty =
-                        solvedProblemRepository.findByUserIdAndCategoryAndDifficulty(userId, category, difficulty);
-
-                long solvedByDifficultyCount = solvedByDifficulty.size();
-                long correctByDifficulty = solvedByDifficulty.stream()
-                        .filter(SolvedProblem::getIsCorrect)
-                        .count();
-
-                difficultyStats.put(difficulty, ProgressResponse.of(
-                        category,
-                        difficulty,
-                        totalByDifficulty,
-                        solvedByDifficultyCount,
-                        correctByDifficulty
-                ));
+                difficultyStats.put(difficulty, toProgress(category, difficulty, aggregate.cell(category, difficulty)));
             }
 
             stats.add(CategoryStatsResponse.builder()
                     .category(category)
-                    .totalProblems(totalProblems)
-                    .solvedProblems(solvedCount)
-                    .correctCount(correctCount)
-                    .accuracy(Math.round(accuracy * 100.0) / 100.0)
+                    .totalProblems(total.totalProblems())
+                    .solvedProblems(total.solved())
+                    .correctCount(total.correct())
+                    .accuracy(round(total.accuracy()))
                     .difficultyStats(difficultyStats)
                     .build());
         }
@@ -130,47 +105,29 @@ public class StatisticsService {
      * 특정 카테고리+난이도 통계 조회
      */
     public ProgressResponse getCategoryDifficultyStats(Long userId, Category category, DifficultyType difficulty) {
-        long totalProblems = problemRepository.countByCategoryAndDifficulty(category, difficulty);
-
-        List<SolvedProblem> solvedProblems =
-                solvedProblemRepository.findByUserIdAndCategoryAndDifficulty(userId, category, difficulty);
-
-        long solvedCount = solvedProblems.size();
-        long correctCount = solvedProblems.stream()
-                .filter(SolvedProblem::getIsCorrect)
-                .count();
-
-        return ProgressResponse.of(category, difficulty, totalProblems, solvedCount, correctCount);
+        return toProgress(category, difficulty, aggregate(userId).cell(category, difficulty));
     }
 
     /**
      * 취약점 분석 (정답률 낮은 순)
      */
     public List<WeakPointResponse> getWeakPoints(Long userId) {
+        UserStatsAggregate aggregate = aggregate(userId);
         List<WeakPointResponse> weakPoints = new ArrayList<>();
 
         for (Category category : Category.values()) {
             for (DifficultyType difficulty : DifficultyType.values()) {
-                List<SolvedProblem> solvedProblems =
-                        solvedProblemRepository.findByUserIdAndCategoryAndDifficulty(userId, category, difficulty);
-
-                if (solvedProblems.isEmpty()) {
+                UserStatsAggregate.Cell cell = aggregate.cell(category, difficulty);
+                if (cell.solved() == 0) {
                     continue; // 아직 안 푼 문제는 제외
                 }
 
-                long solvedCount = solvedProblems.size();
-                long correctCount = solvedProblems.stream()
-                        .filter(SolvedProblem::getIsCorrect)
-                        .count();
-
-                double accuracy = (correctCount * 100.0) / solvedCount;
-
                 weakPoints.add(WeakPointResponse.builder()
                         .category(category)
                         .difficulty(difficulty)
-                        .solvedCount(solvedCount)
-                        .correctCount(correctCount)
-                        .accuracy(Math.round(accuracy * 100.0) / 100.0)
+                        .solvedCount(cell.solved())
+                        .correctCount(cell.correct())
+                        .accuracy(round(cell.accuracy()))
                         .build());
             }
         }
@@ -182,9 +139,86 @@ public class StatisticsService {
     }
 
     /**
-     * 오답 노트 (틀린 문제만)
+     * 통계 집계 (캐시 우선, 없으면 한 읽기 전용 트랜잭션에서 문제 수 GROUP BY 1회 + 사용자 카운터 행 조회)
+     */
+    private UserStatsAggregate aggregate(Long userId) {
+        return userStatsCache.get(userId, () -> readOnlyTransaction.execute(status -> UserStatsAggregate.of(
+                problemRepository.countGroupByCategoryAndDifficulty(),
+                userProblemStatsRepository.findByUserId(userId))));
+    }
+
+    private static ProgressResponse toProgress(Category category, DifficultyType difficulty, UserStatsAggregate.Cell cell) {
+        return ProgressResponse.of(category, difficulty, cell.totalProblems(), cell.solved(), cell.correct());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 오답 노트 (틀린 문제만, 최근 순 커서 기반 페이지)
+     * 한 건을 더 조회해 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
      */
-    public List<SolvedProblem> getWrongAnswers(Long userId) {
-        return solvedProblemRepository.findByUserIdAndIsCorrect(userId, false);
+    @Transactional(readOnly = true)
+    public WrongAnswerPageResponse getWrongAnswers(Long userId, Category category, DifficultyType difficulty,
+                                                   String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_WRONG_ANSWER_PAGE_SIZE));
+        WrongAnswerCursor after = cursor != null && !cursor.isBlank() ? WrongAnswerCursor.decode(cursor) : null;
+
+        List<SolvedProblemRepository.WrongAnswerRow> rows = solvedProblemRepository.findWrongAnswerPage(
+                userId, category, difficulty,
+                after != null ? after.solvedAt() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SolvedProblemRepository.WrongAnswerRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            SolvedProblemRepository.WrongAnswerRow last = page.get(page.size() - 1);
+            nextCursor = new WrongAnswerCursor(last.getSolvedAt(), last.getId()).encode();
+        }
+
+        return WrongAnswerPageResponse.builder()
+                .items(page.stream().map(WrongAnswerPageResponse.Item::from).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 오답 노트 단건 조회 (AI 피드백 포함)
+     */
+    @Transactional(readOnly = true)
+    public SolvedProblemResponse getWrongAnswer(Long userId, Long solvedProblemId) {
+        SolvedProblem solvedProblem = solvedProblemRepository.findById(solvedProblemId)
+                .filter(sp -> sp.getUser() != null && sp.getUser().getId().equals(userId))
+                .filter(sp -> Boolean.FALSE.equals(sp.getIsCorrect()))
+                .orElseThrow(() -> new RestApiException(ErrorCode.SOLVED_NOT_FOUND));
+        return SolvedProblemResponse.from(solvedProblem);
+    }
+
+    /**
+     * 오답 노트 커서: 마지막 항목의 (solvedAt, id)를 URL-safe Base64로 인코딩
+     */
+    private record WrongAnswerCursor(LocalDateTime solvedAt, Long id) {
+
+        String encode() {
+            String raw = solvedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static WrongAnswerCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new WrongAnswerCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new RestApiException(ErrorCode.INVALID_CURSOR);
+            }
+        }
     }
 }
\ No newline at end of file
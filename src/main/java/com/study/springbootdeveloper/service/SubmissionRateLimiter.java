@@ -0,0 +1,164 @@
+package com.study.springbootdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 답안 제출 속도 제한기 (메모리 기반, DB 조회 없음)
+ * - 키 종류(비로그인 guestId / 로그인 userId / 클라이언트 IP)마다 별도 한도 적용
+ * - 키별 토큰 버킷을 GCRA 방식으로 구현: 상태가 "다음 허용 기준 시각" long 하나라 CAS 한 번으로 갱신 (락 없음)
+ * - 키는 여러 개의 맵(stripe)에 나눠 저장하고, 버킷이 가득 찬(오래 쓰지 않은) 키는 주기적으로 정리
+ */
+@Slf4j
+@Component
+public class SubmissionRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    public enum KeyType { GUEST, USER, IP }
+
+    private final Map<KeyType, Quota> quotas = new EnumMap<>(KeyType.class);
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+
+    private final Map<KeyType, LongAdder> allowed = new EnumMap<>(KeyType.class);
+    private final Map<KeyType, LongAdder> rejected = new EnumMap<>(KeyType.class);
+
+    public SubmissionRateLimiter(@Value("${grading.rate-limit.guest.limit:10}") int guestLimit,
+                                 @Value("${grading.rate-limit.guest.period-seconds:60}") long guestPeriodSeconds,
+                                 @Value("${grading.rate-limit.guest.burst:5}") int guestBurst,
+                                 @Value("${grading.rate-limit.user.limit:30}") int userLimit,
+                                 @Value("${grading.rate-limit.user.period-seconds:60}") long userPeriodSeconds,
+                                 @Value("${grading.rate-limit.user.burst:10}") int userBurst,
+                                 @Value("${grading.rate-limit.ip.limit:60}") int ipLimit,
+                                 @Value("${grading.rate-limit.ip.period-seconds:60}") long ipPeriodSeconds,
+                                 @Value("${grading.rate-limit.ip.burst:20}") int ipBurst) {
+        quotas.put(KeyType.GUEST, new Quota(guestLimit, Duration.ofSeconds(guestPeriodSeconds), guestBurst));
+        quotas.put(KeyType.USER, new Quota(userLimit, Duration.ofSeconds(userPeriodSeconds), userBurst));
+        quotas.put(KeyType.IP, new Quota(ipLimit, Duration.ofSeconds(ipPeriodSeconds), ipBurst));
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        for (KeyType type : KeyType.values()) {
+            allowed.put(type, new LongAdder());
+            rejected.put(type, new LongAdder());
+        }
+    }
+
+    /**
+     * 요청 1건 허용 여부 확인 (허용 시 토큰 1개 소비)
+     *
+     * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(KeyType type, String key) {
+        Quota quota = quotas.get(type);
+        if (quota.limit() <= 0) {
+            return 0;
+        }
+
+        AtomicLong bucket = stripeFor(key).computeIfAbsent(type.name() + ':' + key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long base = Math.max(theoreticalArrival, now);
+            long next = base + quota.emissionIntervalNanos();
+            long allowAt = next - quota.toleranceNanos();
+
+            if (allowAt > now) {
+                rejected.get(type).increment();
+                return Math.max(1, (allowAt - now) / 1_000_000);
+            }
+            if (bucket.compareAndSet(theoreticalArrival, next)) {
+                allowed.get(type).increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire로 소비한 토큰 1개 반환 (같은 요청의 다른 키 확인에서 거절되었을 때)
+     */
+    public void release(KeyType type, String key) {
+        Quota quota = quotas.get(type);
+        if (quota.limit() <= 0) {
+            return;
+        }
+        AtomicLong bucket = stripeFor(key).get(type.name() + ':' + key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.addAndGet(-quota.emissionIntervalNanos());
+        allowed.get(type).decrement();
+    }
+
+    /**
+     * 버킷이 다시 가득 찬 키 정리 (없는 키 = 가득 찬 버킷이므로 제한 결과에 영향 없음)
+     */
+    @Scheduled(fixedDelayString = "${grading.rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdleKeys() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(bucket -> bucket.get() <= now);
+            removed += before - stripe.size();
+        }
+        if (removed > 0) {
+            log.debug("Rate limit buckets evicted: count={}", removed);
+        }
+    }
+
+    public Stats stats() {
+        int trackedKeys = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            trackedKeys += stripe.size();
+        }
+
+        List<KeyStats> keyStats = new ArrayList<>();
+        for (KeyType type : KeyType.values()) {
+            Quota quota = quotas.get(type);
+            keyStats.add(new KeyStats(type, quota.limit(), quota.period().toSeconds(), quota.burst(),
+                    allowed.get(type).sum(), rejected.get(type).sum()));
+        }
+        return new Stats(trackedKeys, keyStats);
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * period 동안 limit건, 순간적으로는 burst건까지 연속 허용
+     */
+    private record Quota(int limit, Duration period, int burst) {
+
+        long emissionIntervalNanos() {
+            return period.toNanos() / limit;
+        }
+
+        long toleranceNanos() {
+            return emissionIntervalNanos() * Math.max(1, burst);
+        }
+    }
+
+    public record Stats(int trackedKeys, List<KeyStats> keys) {
+    }
+
+    public record KeyStats(KeyType type, int limit, long periodSeconds, int burst, long allowed, long rejected) {
+    }
+}
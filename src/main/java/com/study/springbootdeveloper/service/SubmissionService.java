@@ -0,0 +1,119 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.Problem;
+import com.study.springbootdeveloper.domain.SolvedProblem;
+import com.study.springbootdeveloper.dto.response.GradingResultDto;
+import com.study.springbootdeveloper.handler.RestApiException;
+import com.study.springbootdeveloper.type.ErrorCode;
+import com.study.springbootdeveloper.type.ProblemType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동기 답안 제출 (응답에 채점 결과 포함)
+ * 채점 중에는 DB 커넥션을 잡고 있지 않도록 세 단계로 나눠 처리
+ * 1. 짧은 트랜잭션: 검증 후 PENDING 기록 저장 (중복 제출 방지)
+ * 2. 트랜잭션 밖: 채점 (Gemini 호출 대기 시간이 커넥션 풀 사용량에 영향 없음)
+ *    단답형/서술형은 우선순위 채점 스케줄러를 거쳐 챌린지 모드 제출이 먼저 채점되도록 함
+ * 3. 짧은 트랜잭션: 채점 결과 반영
+ * 대기열에서 제한 시간을 넘기면 제출을 취소하고 503 응답 (다시 제출 가능, 대기만으로 로컬 채점 결과가 확정되지 않도록)
+ * 채점이 시작된 뒤에는 Gemini 호출 자체의 타임아웃/폴백을 따름
+ */
+@Slf4j
+@Service
+public class SubmissionService {
+
+    private final SolvingService solvingService;
+    private final GradingScheduler gradingScheduler;
+    private final long queueTimeoutMs;
+
+    public SubmissionService(SolvingService solvingService, GradingScheduler gradingScheduler,
+                             @Value("${grading.sync.queue-timeout-ms:35000}") long queueTimeoutMs) {
+        this.solvingService = solvingService;
+        this.gradingScheduler = gradingScheduler;
+        this.queueTimeoutMs = queueTimeoutMs;
+    }
+
+    /*
+     답안 제출 및 채점 (자유 선택 모드)
+     */
+    public SolvedProblem submitAnswer(Long userId, Long problemId, String userAnswer, String guestId) {
+        SolvedProblem pending = solvingService.reserveSubmission(userId, problemId, userAnswer, guestId);
+        return gradeAndComplete(pending, userAnswer);
+    }
+
+    /*
+     세션 내 답안 제출 및 채점 (챌린지 모드)
+     */
+    public SolvedProblem submitAnswerInSession(Long sessionId, Long problemId, String userAnswer) {
+        SolvedProblem pending = solvingService.reserveSessionSubmission(sessionId, problemId, userAnswer);
+        return gradeAndComplete(pending, userAnswer);
+    }
+
+    private SolvedProblem gradeAndComplete(SolvedProblem pending, String userAnswer) {
+        GradingResultDto gradingResult;
+        try {
+            gradingResult = grade(pending, userAnswer);
+        } catch (RuntimeException e) {
+            // 동기 제출은 실패 시 기록을 남기지 않음 (다시 제출 가능하도록)
+            log.warn("Grading failed, discarding submission: solvedProblemId={}", pending.getId());
+            solvingService.discardSubmission(pending.getId());
+            throw e;
+        }
+        // 채점 중에 기록이 만료 처리된 경우 (정상적으로는 예약한 서버의 제출은 만료 대상이 아님)
+        return solvingService.completeSubmission(pending.getId(), gradingResult)
+                .orElseThrow(() -> new RestApiException(ErrorCode.SOLVED_NOT_FOUND));
+    }
+
+    /**
+     * 객관식은 Gemini를 호출하지 않으므로 바로 채점, 그 외에는 레인 대기열을 거쳐 채점
+     * 제한 시간 안에 채점이 시작되지 않으면 대기 중인 작업을 취소하고 GRADING_QUEUE_FULL
+     */
+    private GradingResultDto grade(SolvedProblem pending, String userAnswer) {
+        Problem problem = pending.getProblem();
+        if (problem.getProblemType() == ProblemType.MULTIPLE_CHOICE) {
+            return solvingService.grade(problem, userAnswer);
+        }
+
+        // 워커가 작업을 시작하거나 요청 스레드가 대기를 포기하거나, 둘 중 먼저 가져간 쪽만 진행
+        AtomicBoolean claimed = new AtomicBoolean(false);
+        CompletableFuture<GradingResultDto> future;
+        try {
+            future = gradingScheduler.submit(GradingScheduler.laneOf(pending),
+                    () -> claimed.compareAndSet(false, true) ? solvingService.grade(problem, userAnswer) : null);
+        } catch (RejectedExecutionException e) {
+            throw new RestApiException(ErrorCode.GRADING_QUEUE_FULL);
+        }
+
+        try {
+            try {
+                return future.get(queueTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    future.cancel(false);
+                    log.warn("Grading not started within {}ms, rejecting submission: solvedProblemId={}",
+                            queueTimeoutMs, pending.getId());
+                    throw new RestApiException(ErrorCode.GRADING_QUEUE_FULL);
+                }
+                // 이미 채점 중이면 Gemini 타임아웃 안에 결과(또는 폴백)가 나옴
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestApiException(ErrorCode.GEMINI_API_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RestApiException(ErrorCode.GEMINI_API_ERROR);
+        }
+    }
+}
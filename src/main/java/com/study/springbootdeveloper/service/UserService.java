@@ -2,6 +2,7 @@ package com.study.springbootdeveloper.service;
 
 import com.study.springbootdeveloper.domain.User;
 import com.study.springbootdeveloper.dto.request.UserDto;
+import com.study.springbootdeveloper.dto.response.SolvedProblemResponse;
 import com.study.springbootdeveloper.dto.response.UserResponse;
 import com.study.springbootdeveloper.handler.RestApiException;
 import com.study.springbootdeveloper.repository.UserRepository;
@@ -12,6 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -21,6 +24,11 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatsCounterService userStatsCounterService;
+    private final ActivityRollupService activityRollupService;
+    private final LeaderboardService leaderboardService;
+    private final WindowedLeaderboardService windowedLeaderboardService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
     //회원가입
     public UserResponse signUp(UserDto.SignUp request) {
@@ -44,6 +52,7 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        dashboardSnapshotService.userCreated(savedUser.getRole());
         log.info("User registered successfully: userId={}, loginId={}, role={}",
                 savedUser.getId(), savedUser.getLoginId(), savedUser.getRole());
 
@@ -71,6 +80,14 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.USER_NOT_FOUND));
         userRepository.delete(user);
+        dashboardSnapshotService.userDeleted(user.getRole());
+        userStatsCounterService.deleteUser(userId);
+        activityRollupService.deleteUser(userId);
+        // 메모리 리더보드는 커밋된 뒤에만 제외 (롤백 시 순위가 사라지지 않도록)
+        afterCommit(() -> {
+            leaderboardService.removeUser(userId);
+            windowedLeaderboardService.removeUser(userId);
+        });
         log.info("User deleted: userId={}", userId);
     }
 
@@ -80,8 +97,27 @@ public class UserService {
                 .userId(user.getId())
                 .loginId(user.getLoginId())
                 .nickname(user.getNickname())
-                .solvedProblems(user.getSolvedProblems())
+                // 트랜잭션 안에서 DTO로 변환 (open-in-view 비활성화)
+                .solvedProblems(user.getSolvedProblems().stream()
+                        .map(SolvedProblemResponse::from)
+                        .toList())
                 .createdAt(user.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에만 실행
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.UserProblemStats;
+import com.study.springbootdeveloper.repository.ProblemRepository;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.DifficultyType;
+
+import java.util.List;
+
+/**
+ * 사용자 풀이 통계 집계 결과
+ * (카테고리, 난이도)별 문제 수/풀이 수/정답 수/점수 합을 한 번에 들고 있고, 통계 응답은 모두 여기서 조립
+ */
+public class UserStatsAggregate {
+
+    private static final int CATEGORIES = Category.values().length;
+    private static final int DIFFICULTIES = DifficultyType.values().length;
+
+    private final Cell[][] cells = new Cell[CATEGORIES][DIFFICULTIES];
+    private Cell overall = Cell.EMPTY;
+
+    private UserStatsAggregate() {
+        for (int c = 0; c < CATEGORIES; c++) {
+            for (int d = 0; d < DIFFICULTIES; d++) {
+                cells[c][d] = Cell.EMPTY;
+            }
+        }
+    }
+
+    /**
+     * 문제 수 집계 + 사용자 풀이 카운터로 생성
+     * 카테고리/난이도가 비어 있는 문제는 전체 통계에만 반영
+     */
+    public static UserStatsAggregate of(List<ProblemRepository.ProblemCount> problemCounts,
+                                        List<UserProblemStats> counters) {
+        UserStatsAggregate aggregate = new UserStatsAggregate();
+
+        for (ProblemRepository.ProblemCount row : problemCounts) {
+            aggregate.add(row.getCategory(), row.getDifficulty(),
+                    new Cell(nullToZero(row.getProblemCount()), 0, 0, 0, 0));
+        }
+        for (UserProblemStats row : counters) {
+            aggregate.add(row.getCategory(), row.getDifficulty(), new Cell(
+                    0,
+                    nullToZero(row.getSolvedCount()),
+                    nullToZero(row.getCorrectCount()),
+                    nullToZero(row.getScoredCount()),
+                    nullToZero(row.getScoreSum())));
+        }
+        return aggregate;
+    }
+
+    public Cell cell(Category category, DifficultyType difficulty) {
+        return cells[category.ordinal()][difficulty.ordinal()];
+    }
+
+    public Cell category(Category category) {
+        Cell sum = Cell.EMPTY;
+        for (Cell cell : cells[category.ordinal()]) {
+            sum = sum.plus(cell);
+        }
+        return sum;
+    }
+
+    public Cell overall() {
+        return overall;
+    }
+
+    private void add(Category category, DifficultyType difficulty, Cell cell) {
+        if (category != null && difficulty != null) {
+            cells[category.ordinal()][difficulty.ordinal()] = cells[category.ordinal()][difficulty.ordinal()].plus(cell);
+        }
+        overall = overall.plus(cell);
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * @param scored 점수가 있는(채점이 끝난) 풀이 수
+     */
+    public record Cell(long totalProblems, long solved, long correct, long scored, long scoreSum) {
+
+        static final Cell EMPTY = new Cell(0, 0, 0, 0, 0);
+
+        Cell plus(Cell other) {
+            return new Cell(
+                    totalProblems + other.totalProblems,
+                    solved + other.solved,
+                    correct + other.correct,
+                    scored + other.scored,
+                    scoreSum + other.scoreSum);
+        }
+
+        public double accuracy() {
+            return solved > 0 ? (correct * 100.0) / solved : 0.0;
+        }
+
+        public double averageScore() {
+            return scored > 0 ? (double) scoreSum / scored : 0.0;
+        }
+    }
+}
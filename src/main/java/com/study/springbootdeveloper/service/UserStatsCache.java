@@ -0,0 +1,161 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.event.ProblemChangedEvent;
+import com.study.springbootdeveloper.event.SubmissionGradedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 풀이 통계 캐시 (LRU + TTL)
+ * - 통계는 해당 사용자의 채점이 끝났을 때만 바뀌므로 채점 완료 커밋 이후 그 사용자 항목만 무효화
+ * - 문제 등록/수정/삭제나 카운터 재계산은 모든 사용자의 통계에 영향을 주므로 전체 무효화
+ * - 캐시에 없는 사용자를 동시에 여러 요청이 조회해도 집계는 한 번만 실행 (single-flight)
+ */
+@Slf4j
+@Component
+public class UserStatsCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // accessOrder = true → 가장 오래 사용되지 않은 항목부터 제거
+    private final LinkedHashMap<Long, Entry> entries;
+    private final SingleFlight<Long, UserStatsAggregate> loads = new SingleFlight<>();
+
+    // 로딩 중에 그 사용자(또는 전체) 무효화가 있었으면 로딩 결과를 캐시에 넣지 않음
+    // 사용자 무효화는 userId가 속한 구간(stripe)의 버전만, 전체 무효화는 전체 버전만 증가
+    private static final int VERSION_STRIPES = 1024;
+    private final AtomicLongArray userVersions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public UserStatsCache(@Value("${statistics.cache.max-size:10000}") int maxSize,
+                          @Value("${statistics.cache.ttl-minutes:30}") long ttlMinutes) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > UserStatsCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 집계 후 저장
+     */
+    public UserStatsAggregate get(Long userId, Supplier<UserStatsAggregate> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.createdAt() < ttlNanos) {
+                hits.increment();
+                return entry.aggregate();
+            }
+            if (entry != null) {
+                entries.remove(userId);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        int stripe = stripeOf(userId);
+        return loads.execute(userId, () -> {
+            long loadGlobalVersion = globalVersion.get();
+            long loadUserVersion = userVersions.get(stripe);
+            UserStatsAggregate aggregate = loader.get();
+            synchronized (entries) {
+                if (globalVersion.get() == loadGlobalVersion && userVersions.get(stripe) == loadUserVersion) {
+                    entries.put(userId, new Entry(aggregate, System.nanoTime()));
+                }
+            }
+            return aggregate;
+        });
+    }
+
+    public void invalidate(Long userId) {
+        synchronized (entries) {
+            userVersions.incrementAndGet(stripeOf(userId));
+            if (entries.remove(userId) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        int removed;
+        synchronized (entries) {
+            globalVersion.incrementAndGet();
+            removed = entries.size();
+            entries.clear();
+        }
+        invalidations.add(removed);
+        log.info("User stats cache cleared: removed={}", removed);
+    }
+
+    /**
+     * 채점 결과 커밋 이후 해당 사용자 통계 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionGraded(SubmissionGradedEvent event) {
+        if (event.userId() != null) {
+            invalidate(event.userId());
+        }
+    }
+
+    /**
+     * 문제 수가 바뀌면 모든 사용자의 진행률이 바뀌므로 전체 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        invalidateAll();
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        SingleFlight.Stats loadStats = loads.stats();
+        return new Stats(size, maxSize, hits.sum(), misses.sum(), loadStats.executions(), loadStats.collapsed(),
+                evictions.sum(), invalidations.sum());
+    }
+
+    private static int stripeOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), VERSION_STRIPES);
+    }
+
+    private record Entry(UserStatsAggregate aggregate, long createdAt) {
+    }
+
+    /**
+     * @param loads     실제 실행된 집계 수
+     * @param collapsed 진행 중인 집계에 합쳐진 조회 수
+     */
+    public record Stats(int size, int maxSize, long hits, long misses, long loads, long collapsed,
+                        long evictions, long invalidations) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
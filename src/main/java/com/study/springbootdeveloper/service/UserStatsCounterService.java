@@ -0,0 +1,179 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.domain.Problem;
+import com.study.springbootdeveloper.domain.SolvedProblem;
+import com.study.springbootdeveloper.event.ProblemChangedEvent;
+import com.study.springbootdeveloper.repository.UserProblemStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 풀이 통계 카운터 관리
+ * - 채점 완료 트랜잭션 안에서 (사용자, 카테고리, 난이도) 행을 원자적으로 증가
+ * - 재계산 작업: solved_problem 이력에서 카운터를 다시 만들어 백필/보정 (사용자 단위 트랜잭션)
+ * - 문제의 카테고리/난이도가 바뀌거나 문제가 삭제되면 기존 카운터가 어긋나므로 재계산 예약
+ */
+@Slf4j
+@Service
+public class UserStatsCounterService {
+
+    private final UserProblemStatsRepository userProblemStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UserStatsCache userStatsCache;
+
+    // 재계산은 단일 스레드에서 한 번에 하나만 실행
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+
+    private final LongAdder increments = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final AtomicLong lastRebuildUsers = new AtomicLong();
+    private final AtomicLong lastRebuildMs = new AtomicLong();
+
+    public UserStatsCounterService(UserProblemStatsRepository userProblemStatsRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   UserStatsCache userStatsCache) {
+        this.userProblemStatsRepository = userProblemStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.userStatsCache = userStatsCache;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "user-stats-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 채점 완료 1건 반영 (호출한 쪽의 트랜잭션에 참여, 비로그인 풀이는 집계하지 않음)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordGraded(SolvedProblem solvedProblem) {
+        if (solvedProblem.getUser() == null) {
+            return;
+        }
+        Problem problem = solvedProblem.getProblem();
+        boolean correct = Boolean.TRUE.equals(solvedProblem.getIsCorrect());
+        Integer score = solvedProblem.getScore();
+
+        userProblemStatsRepository.increment(
+                solvedProblem.getUser().getId(),
+                problem.getCategory().name(),
+                problem.getDifficulty().name(),
+                correct ? 1 : 0,
+                score != null ? 1 : 0,
+                score != null ? score : 0);
+        increments.increment();
+    }
+
+    /**
+     * 특정 사용자의 카운터를 이력에서 다시 계산
+     */
+    @Transactional
+    public int rebuildUser(Long userId) {
+        userProblemStatsRepository.deleteByUserId(userId);
+        return userProblemStatsRepository.insertFromHistory(userId);
+    }
+
+    /**
+     * 사용자 삭제 시 카운터 정리
+     */
+    @Transactional
+    public void deleteUser(Long userId) {
+        userProblemStatsRepository.deleteByUserId(userId);
+        userStatsCache.invalidate(userId);
+    }
+
+    /**
+     * 전체 재계산 예약 (이미 예약/실행 중이면 합쳐짐)
+     *
+     * @return 새로 예약했으면 true
+     */
+    public boolean requestRebuild() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuildAll();
+                } catch (Exception e) {
+                    log.error("User stats rebuild failed", e);
+                } finally {
+                    rebuildPending.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rebuildPending.set(false);
+            return false;
+        }
+    }
+
+    /**
+     * 주기적 전체 재계산 (누락/불일치 보정)
+     */
+    @Scheduled(cron = "${statistics.counters.rebuild-cron:0 30 4 * * *}")
+    public void scheduleRebuild() {
+        requestRebuild();
+    }
+
+    /**
+     * 문제 수정/삭제 커밋 이후 카운터 재계산 (카테고리/난이도 변경이 기존 카운터에 반영되도록)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        if (event.changeType() != ProblemChangedEvent.ChangeType.CREATED) {
+            requestRebuild();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(increments.sum(), rebuilds.sum(), rebuildPending.get(),
+                lastRebuildUsers.get(), lastRebuildMs.get());
+    }
+
+    /**
+     * 사용자마다 별도 트랜잭션으로 삭제 후 재삽입 (잠금 범위를 사용자 단위로 제한)
+     */
+    private void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        List<Long> userIds = userProblemStatsRepository.findRebuildTargetUserIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuildUser(userId));
+        }
+
+        userStatsCache.invalidateAll();
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        rebuilds.increment();
+        lastRebuildUsers.set(userIds.size());
+        lastRebuildMs.set(elapsed);
+        log.info("User stats rebuilt: users={}, elapsedMs={}", userIds.size(), elapsed);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * @param rebuildRunning 전체 재계산이 예약/실행 중인지
+     */
+    public record Stats(long increments, long rebuilds, boolean rebuildRunning,
+                        long lastRebuildUsers, long lastRebuildMs) {
+    }
+}
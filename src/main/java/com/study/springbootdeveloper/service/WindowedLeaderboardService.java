@@ -0,0 +1,302 @@
+package com.study.springbootdeveloper.service;
+
+import com.study.springbootdeveloper.event.SubmissionGradedEvent;
+import com.study.springbootdeveloper.repository.SolvedProblemRepository;
+import com.study.springbootdeveloper.type.Category;
+import com.study.springbootdeveloper.type.GradingStatus;
+import com.study.springbootdeveloper.type.LeaderboardPeriod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 기간 리더보드 (최근 24시간 / 최근 7일, 전체 + 카테고리별, 메모리 기반)
+ * - 기간마다 시간 구간 링 버퍼(RollingLeaderboard) 사용: 창이 넘어가면 가장 오래된 구간만 빼고 재사용
+ * - 구간 수/구간 길이/보관 항목 수 상한은 설정으로 조절 (메모리 상한 = 보드 수 × max-entries)
+ * - 기동 시와 매일 한 번 창 범위의 풀이 기록만 시 단위로 합산해 다시 만들어 교체
+ *   재구성 중에 들어온 점수/삭제는 따로 모아 두었다가 교체 직후 새 보드에 다시 적용
+ *   (조회 스냅샷에 이미 들어 있던 채점은 다시 더하지 않음)
+ */
+@Slf4j
+@Service
+public class WindowedLeaderboardService {
+
+    private final SolvedProblemRepository solvedProblemRepository;
+    private final LeaderboardService leaderboardService;
+    private final Map<LeaderboardPeriod, WindowConfig> windows = new EnumMap<>(LeaderboardPeriod.class);
+    private final int maxEntries;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Boards boards;
+
+    // 갱신은 읽기 락(보드별 동기화로 동시 갱신 가능), 재구성 시작/교체는 쓰기 락
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // 재구성 중일 때만 null이 아님
+    private Queue<Delta> pendingDeltas;
+
+    public WindowedLeaderboardService(SolvedProblemRepository solvedProblemRepository,
+                                      LeaderboardService leaderboardService,
+                                      @Value("${leaderboard.window.daily.buckets:24}") int dailyBuckets,
+                                      @Value("${leaderboard.window.daily.bucket-hours:1}") int dailyBucketHours,
+                                      @Value("${leaderboard.window.weekly.buckets:7}") int weeklyBuckets,
+                                      @Value("${leaderboard.window.weekly.bucket-hours:24}") int weeklyBucketHours,
+                                      @Value("${leaderboard.window.max-entries:100000}") int maxEntries,
+                                      PlatformTransactionManager transactionManager) {
+        this.solvedProblemRepository = solvedProblemRepository;
+        this.leaderboardService = leaderboardService;
+        this.maxEntries = maxEntries;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        windows.put(LeaderboardPeriod.DAILY, new WindowConfig(dailyBuckets, dailyBucketHours));
+        windows.put(LeaderboardPeriod.WEEKLY, new WindowConfig(weeklyBuckets, weeklyBucketHours));
+        this.boards = newBoards();
+    }
+
+    /**
+     * 창 범위(가장 긴 기간)의 채점 기록으로 새로 만들어 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${leaderboard.resync-cron:0 0 5 * * *}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        // DB 조회 전부터 들어오는 변경을 모아 교체 후 새 보드에 반영
+        swapLock.writeLock().lock();
+        try {
+            pendingDeltas = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        long nowHour = epochHour(LocalDateTime.now());
+        int windowHours = windows.values().stream().mapToInt(WindowConfig::hours).max().orElse(0);
+
+        RebuildResult result;
+        try {
+            result = readOnlyTransaction.execute(status -> {
+                Boards rebuilt = newBoards();
+                rebuilt.roll(nowHour);
+                List<SolvedProblemRepository.HourlyScore> rows =
+                        solvedProblemRepository.sumHourlyScoreSince(LocalDateTime.now().minusHours(windowHours));
+                for (SolvedProblemRepository.HourlyScore row : rows) {
+                    Category category = row.getCategory() != null ? Category.valueOf(row.getCategory()) : null;
+                    rebuilt.add(row.getUserId(), category, row.getEpochHour(), row.getScoreSum() != null ? row.getScoreSum() : 0L);
+                }
+
+                swapLock.writeLock().lock();
+                try {
+                    Set<Long> alreadyCounted = countedInSnapshot(pendingDeltas);
+                    int replayed = 0;
+                    for (Delta delta : pendingDeltas) {
+                        if (delta.solvedProblemId() != null && alreadyCounted.contains(delta.solvedProblemId())) {
+                            continue;
+                        }
+                        delta.action().accept(rebuilt);
+                        replayed++;
+                    }
+                    pendingDeltas = null;
+                    boards = rebuilt;
+                    return new RebuildResult(rows.size(), replayed);
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            // 실패 시 모으던 변경은 버리고 기존 보드를 그대로 사용 (이미 기존 보드에도 반영되어 있음)
+            swapLock.writeLock().lock();
+            try {
+                pendingDeltas = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            throw e;
+        }
+        log.info("Windowed leaderboards rebuilt: rows={}, replayedDeltas={}, elapsedMs={}",
+                result.rows(), result.replayedDeltas(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 채점 결과 커밋 이후 제출 시각 구간에 점수 반영 (비로그인 제출은 제외)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionGraded(SubmissionGradedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        LocalDateTime solvedAt = event.solvedAt() != null ? event.solvedAt() : LocalDateTime.now();
+        long score = event.score() != null ? event.score() : 0L;
+        long hour = epochHour(solvedAt);
+        apply(new Delta(event.solvedProblemId(), target -> target.add(event.userId(), event.category(), hour, score)));
+    }
+
+    /**
+     * 재구성 중 모인 채점 중 조회 스냅샷에 이미 반영되어 있던 것 (같은 트랜잭션 안에서 호출해야 함)
+     */
+    private Set<Long> countedInSnapshot(Queue<Delta> deltas) {
+        List<Long> ids = deltas.stream().map(Delta::solvedProblemId).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(solvedProblemRepository.findIdsByIdInAndStatus(ids, GradingStatus.COMPLETED));
+    }
+
+    /**
+     * 새 점수가 없어도 지난 구간이 순위에서 빠지도록 주기적으로 창 이동
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.window.roll-interval-ms:60000}")
+    public void roll() {
+        boards.roll(epochHour(LocalDateTime.now()));
+    }
+
+    public void removeUser(Long userId) {
+        apply(new Delta(null, target -> target.forEach(board -> board.removeUser(userId))));
+    }
+
+    private void apply(Delta delta) {
+        swapLock.readLock().lock();
+        try {
+            if (pendingDeltas != null) {
+                pendingDeltas.add(delta);
+            }
+            delta.action().accept(boards);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * offset번째(0부터)부터 limit명 (category가 null이면 전체 순위)
+     */
+    public LeaderboardService.Page getPage(LeaderboardPeriod period, Category category, int offset, int limit) {
+        RollingLeaderboard board = boards.get(period, category);
+        List<RankedSkipList.Entry> entries;
+        int total;
+        synchronized (board) {
+            entries = board.range(offset, limit);
+            total = board.size();
+        }
+        return new LeaderboardService.Page(entries.stream()
+                .map(entry -> new LeaderboardService.Ranking(entry.rank(), entry.member(),
+                        leaderboardService.nickname(entry.member()), entry.score()))
+                .toList(), total);
+    }
+
+    /**
+     * 특정 사용자의 기간 순위 (기간 안에 채점된 풀이가 없으면 null)
+     */
+    public LeaderboardService.Ranking getRanking(LeaderboardPeriod period, Category category, Long userId) {
+        RollingLeaderboard board = boards.get(period, category);
+        int rank;
+        Long score;
+        synchronized (board) {
+            rank = board.rank(userId);
+            score = board.score(userId);
+        }
+        return rank == 0 ? null : new LeaderboardService.Ranking(rank, userId, leaderboardService.nickname(userId), score);
+    }
+
+    public List<BoardStats> stats() {
+        List<BoardStats> stats = new ArrayList<>();
+        for (LeaderboardPeriod period : windows.keySet()) {
+            stats.add(new BoardStats(period, null, boards.get(period, null).stats()));
+            for (Category category : Category.values()) {
+                stats.add(new BoardStats(period, category, boards.get(period, category).stats()));
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * LocalDateTime 기준 epoch 시 (DB의 TIMESTAMPDIFF(HOUR, '1970-01-01', solved_at)와 같은 값)
+     */
+    static long epochHour(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 3600L);
+    }
+
+    private Boards newBoards() {
+        Map<LeaderboardPeriod, RollingLeaderboard> overall = new EnumMap<>(LeaderboardPeriod.class);
+        Map<LeaderboardPeriod, Map<Category, RollingLeaderboard>> byCategory = new EnumMap<>(LeaderboardPeriod.class);
+        windows.forEach((period, window) -> {
+            overall.put(period, window.newBoard(maxEntries));
+            Map<Category, RollingLeaderboard> categories = new EnumMap<>(Category.class);
+            for (Category category : Category.values()) {
+                categories.put(category, window.newBoard(maxEntries));
+            }
+            byCategory.put(period, categories);
+        });
+        return new Boards(overall, byCategory);
+    }
+
+    private record WindowConfig(int buckets, int bucketHours) {
+
+        int hours() {
+            return buckets * bucketHours;
+        }
+
+        RollingLeaderboard newBoard(int maxEntries) {
+            return new RollingLeaderboard(buckets, bucketHours, maxEntries);
+        }
+    }
+
+    /**
+     * 기간별 전체/카테고리 보드 묶음 (재구성 시 통째로 교체)
+     */
+    private record Boards(Map<LeaderboardPeriod, RollingLeaderboard> overall,
+                          Map<LeaderboardPeriod, Map<Category, RollingLeaderboard>> byCategory) {
+
+        RollingLeaderboard get(LeaderboardPeriod period, Category category) {
+            if (!overall.containsKey(period)) {
+                throw new IllegalArgumentException("Not a windowed leaderboard period: " + period);
+            }
+            return category == null ? overall.get(period) : byCategory.get(period).get(category);
+        }
+
+        void add(long userId, Category category, long epochHour, long score) {
+            overall.values().forEach(board -> board.add(userId, epochHour, score));
+            if (category != null) {
+                byCategory.values().forEach(categories -> categories.get(category).add(userId, epochHour, score));
+            }
+        }
+
+        void roll(long epochHour) {
+            forEach(board -> board.roll(epochHour));
+        }
+
+        void forEach(Consumer<RollingLeaderboard> action) {
+            overall.values().forEach(action);
+            byCategory.values().forEach(categories -> categories.values().forEach(action));
+        }
+    }
+
+    /**
+     * 보드 변경 하나 (solvedProblemId가 있으면 재구성 시 스냅샷 중복 여부 확인에 사용)
+     */
+    private record Delta(Long solvedProblemId, Consumer<Boards> action) {
+    }
+
+    private record RebuildResult(int rows, int replayedDeltas) {
+    }
+
+    public record BoardStats(LeaderboardPeriod period, Category category, RollingLeaderboard.Stats stats) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.springbootdeveloper.type;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum ActivityGranularity {
+    DAY("일별"),
+    WEEK("주별 (월요일 시작)"),
+    MONTH("월별")
+    ;
+
+    private final String description;
+
+    ActivityGranularity(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 날짜가 속한 구간의 시작일
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
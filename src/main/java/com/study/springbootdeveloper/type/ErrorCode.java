@@ -31,12 +31,26 @@ public enum ErrorCode {
 
     // SolvedProblem
     SOLVED_NOT_FOUND(HttpStatus.NOT_FOUND, "풀이 기록을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+
+    // Grading
+    GRADING_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "채점 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Rate Limit
     RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "하루 제출 횟수를 초과했습니다. 내일 다시 시도해주세요."),
+    SUBMISSION_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "제출 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // Export
+    EXPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // Leaderboard
+    LEADERBOARD_STREAM_FULL(HttpStatus.SERVICE_UNAVAILABLE, "리더보드 구독자가 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Gemini API
-    GEMINI_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "AI 피드백 생성 중 오류가 발생했습니다.");
+    GEMINI_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "AI 피드백 생성 중 오류가 발생했습니다."),
+    GEMINI_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "AI 채점 서비스가 일시적으로 차단되었습니다."),
+    GEMINI_BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "AI 채점 동시 요청 한도를 초과했습니다."),
+    GEMINI_RESPONSE_INVALID(HttpStatus.BAD_GATEWAY, "AI 채점 응답 형식이 올바르지 않습니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,18 @@
+package com.study.springbootdeveloper.type;
+
+public enum GradingStatus {
+    PENDING("채점 중"),
+    COMPLETED("채점 완료"),
+    FAILED("채점 실패")
+    ;
+
+    private final String description;
+
+    GradingStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
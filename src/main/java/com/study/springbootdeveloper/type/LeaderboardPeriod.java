@@ -0,0 +1,18 @@
+package com.study.springbootdeveloper.type;
+
+public enum LeaderboardPeriod {
+    ALL("전체 기간"),
+    DAILY("최근 24시간"),
+    WEEKLY("최근 7일")
+    ;
+
+    private final String description;
+
+    LeaderboardPeriod(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,130 @@
+package com.study.springbootdeveloper.perf;
+
+import com.study.springbootdeveloper.config.GeminiHttpClientConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기본 RestTemplate(new RestTemplate())과 풀링 HTTP 클라이언트의 호출당 비용 비교
+ * 로컬 스텁 서버(generateContent 응답 형식)를 띄워 네트워크 변동 없이 클라이언트 오버헤드만 측정
+ *
+ * 실행: ./gradlew geminiClientBenchmark -Dbench.requests=5000 -Dbench.threads=16
+ */
+public class GeminiClientBenchmark {
+
+    private static final byte[] RESPONSE_BODY = """
+            {"candidates":[{"content":{"parts":[{"text":"판정: 정답\\n점수: 90\\n피드백: 핵심 개념을 잘 설명했습니다."}]}}]}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    public static void main(String[] args) throws Exception {
+        int requests = Integer.getInteger("bench.requests", 5000);
+        int threads = Integer.getInteger("bench.threads", 16);
+        int warmup = Integer.getInteger("bench.warmup", 1000);
+
+        HttpServer server = startStub();
+        String url = "http://localhost:" + server.getAddress().getPort()
+                + "/v1beta/models/gemini-pro:generateContent?key=benchmark";
+
+        try {
+            RestTemplate baseline = new RestTemplate();
+            RestTemplate pooled = new RestTemplate(GeminiHttpClientConfig.createRequestFactory(
+                    Duration.ofSeconds(3), Duration.ofSeconds(30), 3600));
+
+            System.out.printf("requests=%d, threads=%d, warmup=%d%n", requests, threads, warmup);
+            run("baseline (new RestTemplate())", baseline, url, warmup, requests, threads);
+            run("pooled (JDK HttpClient)", pooled, url, warmup, requests, threads);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void run(String name, RestTemplate restTemplate, String url,
+                            int warmup, int requests, int threads) throws InterruptedException {
+        execute(restTemplate, url, warmup, threads);
+
+        long start = System.nanoTime();
+        long[] latencies = execute(restTemplate, url, requests, threads);
+        long elapsedNanos = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        double averageMicros = Arrays.stream(latencies).average().orElse(0) / 1_000.0;
+        System.out.printf("%-32s avg=%8.1fus  p50=%8.1fus  p99=%8.1fus  throughput=%8.0f req/s%n",
+                name,
+                averageMicros,
+                percentile(latencies, 0.50) / 1_000.0,
+                percentile(latencies, 0.99) / 1_000.0,
+                requests / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private static long[] execute(RestTemplate restTemplate, String url, int requests, int threads)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long start = System.nanoTime();
+                        restTemplate.exchange(url, HttpMethod.POST, requestEntity(), Map.class);
+                        latencies[index] = System.nanoTime() - start;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        executor.shutdown();
+        return latencies;
+    }
+
+    private static HttpEntity<Map<String, Object>> requestEntity() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        Map<String, Object> body = Map.of(
+                "contents", List.of(Map.of("parts", List.of(Map.of("text", "벤치마크 프롬프트")))));
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static HttpServer startStub() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(32));
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE_BODY);
+            }
+        });
+        server.start();
+        return server;
+    }
+}
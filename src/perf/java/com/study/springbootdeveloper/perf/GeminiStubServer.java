@@ -0,0 +1,400 @@
+package com.study.springbootdeveloper.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 Gemini 대역 서버 (generateContent / streamGenerateContent 응답 형식)
+ * 실제 API 키 없이 채점 파이프라인을 부하 상태로 측정하기 위한 용도
+ *
+ * 설정 (시스템 프로퍼티):
+ * - stub.port: 포트 (기본 8089)
+ * - stub.mode: synthetic(응답 생성) | record(실제 Gemini로 전달 후 저장) | replay(저장된 응답 재생)
+ * - stub.latency: fixed:200 | uniform:100:400 | lognormal:800:0.5 (중앙값 ms, sigma) | recorded (replay 전용)
+ * - stub.error-rate: 500 응답 비율 (0~1)
+ * - stub.rate-limit-rps: 초당 허용 요청 수, 초과 시 429 + Retry-After (0이면 제한 없음)
+ * - stub.recordings-dir: 녹화 파일 디렉터리 (기본 build/gemini-recordings)
+ * - stub.upstream-url, stub.upstream-key: record 모드에서 사용할 실제 Gemini 주소와 키
+ * - stub.seed: 합성 응답/지연 난수 시드
+ *
+ * 실행: ./gradlew geminiStub -Dstub.latency=lognormal:800:0.5 -Dstub.error-rate=0.02
+ */
+public class GeminiStubServer {
+
+    // 배치 채점 프롬프트의 item 시작 구분자 (<<<ITEM-{배치별 난수}-{번호} START>>>)
+    private static final Pattern BATCH_ITEM = Pattern.compile("<<<ITEM-[0-9a-f]+-(\\d+) START>>>");
+    private static final Pattern BATCH_FENCE = Pattern.compile("ITEM-[0-9a-f]+-");
+    private static final String[] JUDGEMENTS = {"정답", "정답", "정답", "부분정답", "오답"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient upstreamClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String mode;
+    private final LatencyModel latency;
+    private final double errorRate;
+    private final RateLimiter rateLimiter;
+    private final Path recordingsDir;
+    private final String upstreamUrl;
+    private final String upstreamKey;
+    private final Random random;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder replayMisses = new LongAdder();
+
+    GeminiStubServer(String mode, LatencyModel latency, double errorRate, int rateLimitRps,
+                     Path recordingsDir, String upstreamUrl, String upstreamKey, long seed) {
+        this.mode = mode;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.rateLimiter = rateLimitRps > 0 ? new RateLimiter(rateLimitRps) : null;
+        this.recordingsDir = recordingsDir;
+        this.upstreamUrl = upstreamUrl;
+        this.upstreamKey = upstreamKey;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("stub.port", 8089);
+        GeminiStubServer stub = new GeminiStubServer(
+                System.getProperty("stub.mode", "synthetic"),
+                LatencyModel.parse(System.getProperty("stub.latency", "lognormal:800:0.5")),
+                Double.parseDouble(System.getProperty("stub.error-rate", "0")),
+                Integer.getInteger("stub.rate-limit-rps", 0),
+                Path.of(System.getProperty("stub.recordings-dir", "build/gemini-recordings")),
+                System.getProperty("stub.upstream-url", "https://generativelanguage.googleapis.com/v1beta/models/gemini-pro"),
+                System.getProperty("stub.upstream-key", System.getenv().getOrDefault("GEMINI_API_KEY", "")),
+                Long.getLong("stub.seed", 42L)
+        );
+
+        HttpServer server = stub.start(port, Integer.getInteger("stub.threads", 64));
+        System.out.printf("Gemini stub listening on http://localhost:%d (mode=%s)%n", server.getAddress().getPort(), stub.mode);
+        System.out.printf("  gemini.api.url=http://localhost:%d/v1beta/models/gemini-pro:generateContent%n", server.getAddress().getPort());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(0);
+            System.out.printf("requests=%d, errors=%d, rateLimited=%d, replayMisses=%d%n",
+                    stub.requests.sum(), stub.injectedErrors.sum(), stub.rateLimited.sum(), stub.replayMisses.sum());
+        }));
+    }
+
+    HttpServer start(int port, int threads) throws IOException {
+        if (!"synthetic".equals(mode)) {
+            Files.createDirectories(recordingsDir);
+        }
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newFixedThreadPool(threads));
+        server.createContext("/", this::handle);
+        server.start();
+        return server;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.increment();
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            String path = exchange.getRequestURI().getPath();
+
+            if (!"POST".equals(exchange.getRequestMethod())
+                    || !(path.endsWith(":generateContent") || path.endsWith(":streamGenerateContent"))) {
+                sendJson(exchange, 404, error(404, "NOT_FOUND", "Unknown method: " + path));
+                return;
+            }
+
+            if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+                rateLimited.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendJson(exchange, 429, error(429, "RESOURCE_EXHAUSTED", "Resource has been exhausted (e.g. check quota)."));
+                return;
+            }
+
+            String prompt = objectMapper.readTree(requestBody)
+                    .path("contents").path(0).path("parts").path(0).path("text").asText("");
+            Reply reply = resolveReply(prompt, requestBody);
+            if (reply.status() != 200) {
+                sendJson(exchange, reply.status(), objectMapper.writeValueAsBytes(reply.response()));
+                return;
+            }
+
+            if (nextDouble() < errorRate) {
+                injectedErrors.increment();
+                sleep(reply.latencyMs() / 2);
+                sendJson(exchange, 500, error(500, "INTERNAL", "An internal error has occurred."));
+                return;
+            }
+
+            if (path.endsWith(":streamGenerateContent")) {
+                streamText(exchange, reply);
+            } else {
+                sleep(reply.latencyMs());
+                sendJson(exchange, 200, objectMapper.writeValueAsBytes(reply.response()));
+            }
+        } catch (Exception e) {
+            System.err.println("stub error: " + e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 모드별 응답 결정 (replay 미스 시 합성 응답 사용)
+     */
+    private Reply resolveReply(String prompt, byte[] requestBody) throws IOException, InterruptedException {
+        Path recording = recordingsDir.resolve(promptKey(prompt) + ".json");
+
+        if ("replay".equals(mode)) {
+            if (Files.exists(recording)) {
+                JsonNode recorded = objectMapper.readTree(recording.toFile());
+                long latencyMs = latency.isRecorded() ? recorded.path("latencyMs").asLong(0) : latency.sample(this::nextDouble);
+                return new Reply(200, recorded.path("response"), latencyMs);
+            }
+            replayMisses.increment();
+        } else if ("record".equals(mode)) {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> upstream = upstreamClient.send(
+                    HttpRequest.newBuilder(URI.create(upstreamUrl + ":generateContent?key=" + upstreamKey))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            long latencyMs = (System.nanoTime() - start) / 1_000_000;
+
+            JsonNode response = objectMapper.readTree(upstream.body());
+            if (upstream.statusCode() == 200) {
+                ObjectNode entry = objectMapper.createObjectNode();
+                entry.put("latencyMs", latencyMs);
+                entry.set("response", response);
+                objectMapper.writeValue(recording.toFile(), entry);
+            }
+            return new Reply(upstream.statusCode(), response, 0);
+        }
+
+        long latencyMs = latency.isRecorded() ? 0 : latency.sample(this::nextDouble);
+        return new Reply(200, generateContentResponse(synthesize(prompt)), latencyMs);
+    }
+
+    /**
+     * streamGenerateContent?alt=sse 형식으로 응답 텍스트를 여러 조각으로 나눠 전송
+     * 첫 조각은 전체 지연의 20% 시점, 나머지는 남은 시간에 고르게 분배
+     */
+    private void streamText(HttpExchange exchange, Reply reply) throws IOException {
+        String text = reply.response().path("candidates").path(0)
+                .path("content").path("parts").path(0).path("text").asText("");
+        int chunkCount = Math.max(1, Math.min(20, text.length() / 12));
+        int chunkSize = (int) Math.ceil((double) text.length() / chunkCount);
+        long firstChunkMs = reply.latencyMs() / 5;
+        long chunkIntervalMs = (reply.latencyMs() - firstChunkMs) / chunkCount;
+
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        sleep(firstChunkMs);
+
+        OutputStream out = exchange.getResponseBody();
+        for (int offset = 0; offset < text.length(); offset += chunkSize) {
+            String chunk = text.substring(offset, Math.min(text.length(), offset + chunkSize));
+            out.write(("data: " + objectMapper.writeValueAsString(generateContentResponse(chunk)) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            sleep(chunkIntervalMs);
+        }
+    }
+
+    /**
+     * 프롬프트 종류(배치 채점/단건 채점/보충 설명)에 맞는 합성 응답, 같은 프롬프트면 같은 결과
+     */
+    private String synthesize(String prompt) {
+        Random promptRandom = new Random(promptKey(prompt).hashCode());
+
+        Matcher items = BATCH_ITEM.matcher(prompt);
+        int itemCount = 0;
+        while (items.find()) {
+            itemCount = Math.max(itemCount, Integer.parseInt(items.group(1)));
+        }
+
+        if (itemCount > 0) {
+            ArrayNode results = objectMapper.createArrayNode();
+            for (int i = 1; i <= itemCount; i++) {
+                String judgement = JUDGEMENTS[promptRandom.nextInt(JUDGEMENTS.length)];
+                results.addObject()
+                        .put("id", i)
+                        .put("judgement", judgement)
+                        .put("score", scoreFor(judgement, promptRandom))
+                        .put("feedback", feedbackFor(judgement));
+            }
+            return results.toString();
+        }
+
+        if (prompt.contains("judgement")) {
+            String judgement = JUDGEMENTS[promptRandom.nextInt(JUDGEMENTS.length)];
+            return objectMapper.createObjectNode()
+                    .put("judgement", judgement)
+                    .put("score", scoreFor(judgement, promptRandom))
+                    .put("feedback", feedbackFor(judgement))
+                    .toString();
+        }
+
+        return "핵심 개념을 다시 정리하면, 이 문제는 스프링 컨테이너가 객체의 생성과 의존 관계를 관리하는 방식을 묻고 있습니다. "
+                + "실무에서는 생성자 주입을 기본으로 사용하고, 순환 참조가 생기지 않도록 설계하는 것이 중요합니다.";
+    }
+
+    private static int scoreFor(String judgement, Random random) {
+        return switch (judgement) {
+            case "정답" -> 80 + random.nextInt(21);
+            case "부분정답" -> 50 + random.nextInt(21);
+            default -> random.nextInt(41);
+        };
+    }
+
+    private static String feedbackFor(String judgement) {
+        return switch (judgement) {
+            case "정답" -> "핵심 개념을 정확히 이해하고 있습니다. 실무 예시를 함께 들면 더 좋은 답변이 됩니다.";
+            case "부분정답" -> "방향은 맞지만 핵심 용어의 설명이 부족합니다. 동작 원리를 한 문장 더 보완해보세요.";
+            default -> "개념을 다르게 이해하고 있습니다. 모범 답안의 핵심 키워드를 중심으로 다시 정리해보세요.";
+        };
+    }
+
+    private JsonNode generateContentResponse(String text) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode candidate = root.putArray("candidates").addObject();
+        candidate.putObject("content").put("role", "model")
+                .putArray("parts").addObject().put("text", text);
+        candidate.put("finishReason", "STOP");
+        return root;
+    }
+
+    private byte[] error(int code, String status, String message) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.putObject("error").put("code", code).put("message", message).put("status", status);
+        return objectMapper.writeValueAsBytes(root);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private synchronized double nextDouble() {
+        return random.nextDouble();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 녹화/재생 키: 배치 프롬프트의 구분자에는 매번 다른 난수가 들어가므로 제거한 뒤 해시
+     */
+    private static String promptKey(String prompt) {
+        return sha256(BATCH_FENCE.matcher(prompt).replaceAll("ITEM-"));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Reply(int status, JsonNode response, long latencyMs) {
+    }
+
+    /**
+     * 응답 지연 분포
+     */
+    record LatencyModel(String type, double first, double second) {
+
+        static LatencyModel parse(String spec) {
+            String[] parts = spec.split(":");
+            double first = parts.length > 1 ? Double.parseDouble(parts[1]) : 0;
+            double second = parts.length > 2 ? Double.parseDouble(parts[2]) : 0;
+            LatencyModel model = new LatencyModel(parts[0], first, second);
+            if (!model.isRecorded() && !"fixed".equals(model.type())
+                    && !"uniform".equals(model.type()) && !"lognormal".equals(model.type())) {
+                throw new IllegalArgumentException("Unknown latency model: " + spec);
+            }
+            return model;
+        }
+
+        boolean isRecorded() {
+            return "recorded".equals(type);
+        }
+
+        long sample(java.util.function.DoubleSupplier uniform) {
+            return switch (type) {
+                case "fixed" -> (long) first;
+                case "uniform" -> (long) (first + (second - first) * uniform.getAsDouble());
+                // 중앙값 first, 로그 표준편차 second (Box-Muller)
+                case "lognormal" -> {
+                    double gaussian = Math.sqrt(-2 * Math.log(1 - uniform.getAsDouble()))
+                            * Math.cos(2 * Math.PI * uniform.getAsDouble());
+                    yield (long) (first * Math.exp(second * gaussian));
+                }
+                default -> 0L;
+            };
+        }
+    }
+
+    /**
+     * 초당 요청 수 제한 (1초 고정 창)
+     */
+    private static final class RateLimiter {
+
+        private final int permitsPerSecond;
+        private long windowStart = System.nanoTime();
+        private int used;
+
+        RateLimiter(int permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            if (now - windowStart >= 1_000_000_000L) {
+                windowStart = now;
+                used = 0;
+            }
+            if (used >= permitsPerSecond) {
+                return false;
+            }
+            used++;
+            return true;
+        }
+    }
+}
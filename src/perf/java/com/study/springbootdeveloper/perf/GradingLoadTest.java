@@ -0,0 +1,290 @@
+package com.study.springbootdeveloper.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채점 부하 테스트
+ * Gemini 대역 서버(GeminiStubServer)와 loadtest 프로필로 띄운 애플리케이션을 대상으로
+ * 제출 API의 처리량과 지연 분포(p50/p95/p99)를 측정
+ *
+ * - free: POST /api/problems/submit (비로그인 제출)
+ * - session: 회원가입/로그인 → 세션 생성 → POST /api/sessions/{id}/submit
+ * - mixed: 가상 사용자의 절반씩 free/session
+ *
+ * 설정 (시스템 프로퍼티):
+ * - load.base-url (기본 http://localhost:8080), load.mode (free|session|mixed)
+ * - load.users: 동시 가상 사용자 수, load.duration-seconds / load.warmup-seconds: 측정/워밍업 시간
+ * - load.category, load.difficulty, load.questions-per-session
+ * - load.answer-variants: 문제당 사용할 서로 다른 답안 수 (채점 캐시 적중률 조절)
+ * - load.seed: 답안 선택 난수 시드
+ *
+ * 실행 순서:
+ *   1) ./gradlew geminiStub
+ *   2) SPRING_PROFILES_ACTIVE=loadtest ./gradlew bootRun
+ *   3) ./gradlew gradingLoadTest -Dload.mode=mixed -Dload.users=32
+ */
+public class GradingLoadTest {
+
+    private static final String[] SHORT_ANSWERS = {
+            "스프링 컨테이너가 객체 생성과 의존성 주입을 대신 관리합니다.",
+            "빈의 생명주기를 프레임워크가 관리하고 개발자는 비즈니스 로직에 집중합니다.",
+            "설정 정보를 바탕으로 필요한 객체를 만들어 연결해주는 방식입니다.",
+            "잘 모르겠습니다.",
+            "트랜잭션 경계를 프록시가 관리하여 커밋과 롤백을 처리합니다.",
+            "요청을 DispatcherServlet이 받아 적절한 핸들러로 위임합니다.",
+            "엔티티의 상태 변화를 감지하여 커밋 시점에 UPDATE 쿼리를 실행합니다.",
+            "인증된 사용자 정보를 SecurityContext에 저장합니다."
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String category;
+    private final String difficulty;
+    private final int questionsPerSession;
+    private final int answerVariants;
+    private final long seed;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+
+    GradingLoadTest(String baseUrl, String category, String difficulty,
+                    int questionsPerSession, int answerVariants, long seed) {
+        this.baseUrl = baseUrl;
+        this.category = category;
+        this.difficulty = difficulty;
+        this.questionsPerSession = questionsPerSession;
+        this.answerVariants = Math.max(1, Math.min(answerVariants, SHORT_ANSWERS.length));
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mode = System.getProperty("load.mode", "mixed");
+        int users = Integer.getInteger("load.users", 20);
+        int durationSeconds = Integer.getInteger("load.duration-seconds", 60);
+        int warmupSeconds = Integer.getInteger("load.warmup-seconds", 10);
+
+        GradingLoadTest loadTest = new GradingLoadTest(
+                System.getProperty("load.base-url", "http://localhost:8080"),
+                System.getProperty("load.category", "SPRING_CORE"),
+                System.getProperty("load.difficulty", "BEGINNER"),
+                Integer.getInteger("load.questions-per-session", 5),
+                Integer.getInteger("load.answer-variants", 5),
+                Long.getLong("load.seed", 42L)
+        );
+
+        System.out.printf("mode=%s, users=%d, warmup=%ds, duration=%ds%n", mode, users, warmupSeconds, durationSeconds);
+        loadTest.run(mode, users, warmupSeconds, durationSeconds);
+    }
+
+    void run(String mode, int users, int warmupSeconds, int durationSeconds) throws Exception {
+        List<JsonNode> problems = fetchProblems();
+        if (problems.isEmpty()) {
+            throw new IllegalStateException("No problems for " + category + "/" + difficulty + " (app.data.init.enabled?)");
+        }
+
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(durationSeconds).toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        CountDownLatch done = new CountDownLatch(users);
+        for (int i = 0; i < users; i++) {
+            boolean sessionUser = "session".equals(mode) || ("mixed".equals(mode) && i % 2 == 1);
+            int userIndex = i;
+            executor.execute(() -> {
+                try {
+                    VirtualUser user = new VirtualUser(userIndex, new Random(seed + userIndex));
+                    while (System.nanoTime() < end) {
+                        if (sessionUser) {
+                            user.playSession();
+                        } else {
+                            user.submitFree(problems);
+                        }
+                    }
+                } catch (Exception e) {
+                    System.err.printf("user-%d stopped: %s%n", userIndex, e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        Thread.sleep(Math.max(0, (warmupEnd - System.nanoTime()) / 1_000_000));
+        measuring = true;
+        long measureStart = System.nanoTime();
+        done.await();
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+        executor.shutdown();
+
+        System.out.printf("%-24s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "status");
+        new TreeMap<>(recorders).forEach((name, recorder) -> recorder.print(name, elapsedSeconds));
+    }
+
+    private List<JsonNode> fetchProblems() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/problems?category=" + category + "&difficulty=" + difficulty))
+                        .GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        List<JsonNode> problems = new ArrayList<>();
+        objectMapper.readTree(response.body()).forEach(problems::add);
+        return problems;
+    }
+
+    /**
+     * 문제 유형에 맞는 답안 선택 (객관식은 선택지 중 하나, 그 외는 answer-variants개 답안 중 하나)
+     */
+    private String answerFor(JsonNode problem, Random random) {
+        JsonNode choices = problem.path("choices");
+        if (choices.isArray() && !choices.isEmpty()) {
+            return choices.get(random.nextInt(choices.size())).asText();
+        }
+        return SHORT_ANSWERS[random.nextInt(answerVariants)];
+    }
+
+    private void record(String endpoint, long startNanos, int status) {
+        if (measuring) {
+            recorders.computeIfAbsent(endpoint, key -> new Recorder())
+                    .record((System.nanoTime() - startNanos) / 1_000, status);
+        }
+    }
+
+    /**
+     * 가상 사용자 (사용자별 쿠키 저장소로 guestId 유지)
+     */
+    private final class VirtualUser {
+
+        private final int index;
+        private final Random random;
+        private final HttpClient client;
+        private String accessToken;
+        private Long userId;
+
+        VirtualUser(int index, Random random) {
+            this.index = index;
+            this.random = random;
+            this.client = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+        }
+
+        void submitFree(List<JsonNode> problems) throws IOException, InterruptedException {
+            JsonNode problem = problems.get(random.nextInt(problems.size()));
+            post("submit", "/api/problems/submit", Map.of(
+                    "problemId", problem.path("id").asLong(),
+                    "userAnswer", answerFor(problem, random)));
+        }
+
+        void playSession() throws IOException, InterruptedException {
+            if (accessToken == null) {
+                signIn();
+            }
+
+            HttpResponse<String> created = post("session.create", "/api/sessions?userId=" + userId, Map.of(
+                    "category", category,
+                    "difficulty", difficulty,
+                    "totalQuestions", questionsPerSession));
+            if (created.statusCode() != 201) {
+                Thread.sleep(1000);
+                return;
+            }
+            long sessionId = objectMapper.readTree(created.body()).path("id").asLong();
+
+            HttpResponse<String> problems = send("session.problems", HttpRequest.newBuilder(
+                    URI.create(baseUrl + "/api/sessions/" + sessionId + "/problems")).GET());
+            for (JsonNode problem : objectMapper.readTree(problems.body())) {
+                post("session.submit", "/api/sessions/" + sessionId + "/submit", Map.of(
+                        "problemId", problem.path("id").asLong(),
+                        "userAnswer", answerFor(problem, random)));
+            }
+
+            post("session.complete", "/api/sessions/" + sessionId + "/complete", Map.of());
+        }
+
+        private void signIn() throws IOException, InterruptedException {
+            String loginId = "loadtest-" + System.currentTimeMillis() + "-" + index;
+            Map<String, String> credentials = Map.of("loginId", loginId, "password", "loadtest-password");
+
+            HttpResponse<String> signUp = post("sign-up", "/api/users/sign-up", credentials);
+            userId = objectMapper.readTree(signUp.body()).path("userId").asLong();
+
+            HttpResponse<String> signIn = post("sign-in", "/api/users/sign-in", credentials);
+            accessToken = objectMapper.readTree(signIn.body()).path("accessToken").asText();
+        }
+
+        private HttpResponse<String> post(String endpoint, String path, Object body) throws IOException, InterruptedException {
+            return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest.Builder builder) throws IOException, InterruptedException {
+            if (accessToken != null) {
+                builder.header("Authorization", "Bearer " + accessToken);
+            }
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(builder.timeout(Duration.ofSeconds(60)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            record(endpoint, start, response.statusCode());
+            return response;
+        }
+    }
+
+    /**
+     * 엔드포인트별 지연(μs) 기록
+     */
+    private static final class Recorder {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        synchronized void record(long latencyMicros, int status) {
+            latencies.add(latencyMicros);
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+
+        synchronized void print(String name, double elapsedSeconds) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            long errors = statuses.entrySet().stream()
+                    .filter(entry -> entry.getKey() >= 400)
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+            Map<Integer, Long> statusCounts = new TreeMap<>();
+            statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+
+            System.out.printf("%-24s %8d %8d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    name, sorted.length, errors, sorted.length / elapsedSeconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000.0,
+                    statusCounts);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000.0;
+        }
+    }
+}